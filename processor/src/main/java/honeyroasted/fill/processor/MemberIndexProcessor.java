@@ -0,0 +1,274 @@
+package honeyroasted.fill.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * An annotation processor which generates a {@code honeyroasted.fill.reflect.MemberIndex} for every class declaring a
+ * member annotated with an injection annotation, and registers the generated indices as services. The generated
+ * indices describe the same members as Fill's {@code ANNOTATED_FIELDS}, {@code ANNOTATED_METHODS} and
+ * {@code ANNOTATED_CONSTRUCTORS} aggregators, so the runtime can resolve them without scanning annotations.
+ */
+@SupportedAnnotationTypes("*")
+public class MemberIndexProcessor extends AbstractProcessor {
+    private static final String INJECTION_ANNOTATION = "honeyroasted.fill.InjectionAnnotation";
+    private static final String MEMBER_INDEX = "honeyroasted.fill.reflect.MemberIndex";
+
+    private final Set<String> processed = new HashSet<>();
+    private final Set<String> generated = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServices();
+        } else {
+            for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+                processType(type);
+            }
+        }
+        return false;
+    }
+
+    private void processType(TypeElement type) {
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            processType(nested);
+        }
+
+        String binaryName = binaryName(type);
+        if ((type.getKind() == ElementKind.CLASS || type.getKind() == ElementKind.RECORD) &&
+                this.processed.add(binaryName) && declaresInjectionMember(type)) {
+            generate(type, binaryName);
+        }
+    }
+
+    private boolean declaresInjectionMember(TypeElement type) {
+        for (Element member : type.getEnclosedElements()) {
+            if (hasInjectionAnnotation(member)) {
+                return true;
+            } else if (member instanceof ExecutableElement executable &&
+                    executable.getParameters().stream().anyMatch(this::hasInjectionAnnotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type, String binaryName) {
+        PackageElement pkg = this.processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + "$$FillIndex";
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        List<String> statements = new ArrayList<>();
+        fields(type, statements);
+        methods(type, statements);
+        constructors(type, statements);
+
+        try {
+            JavaFileObject file = this.processingEnv.getFiler().createSourceFile(qualifiedName, type);
+            try (Writer writer = file.openWriter()) {
+                if (!packageName.isEmpty()) {
+                    writer.write("package " + packageName + ";\n\n");
+                }
+                writer.write("@javax.annotation.processing.Generated(\"" + MemberIndexProcessor.class.getName() + "\")\n");
+                writer.write("public final class " + simpleName + " implements " + MEMBER_INDEX + " {\n\n");
+                writer.write("    @Override\n");
+                writer.write("    public String type() {\n");
+                writer.write("        return " + literal(binaryName) + ";\n");
+                writer.write("    }\n\n");
+                writer.write("    @Override\n");
+                writer.write("    public void describe(" + MEMBER_INDEX + ".Sink sink) {\n");
+                for (String statement : statements) {
+                    writer.write("        " + statement + ";\n");
+                }
+                writer.write("    }\n\n");
+                writer.write("}\n");
+            }
+            this.generated.add(qualifiedName);
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write member index: " + e.getMessage(), type);
+        }
+    }
+
+    private void writeServices() {
+        if (this.generated.isEmpty()) return;
+
+        try {
+            FileObject file = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + MEMBER_INDEX);
+            try (Writer writer = file.openWriter()) {
+                for (String name : this.generated) {
+                    writer.write(name + "\n");
+                }
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write member index services: " + e.getMessage());
+        }
+    }
+
+    //Mirrors Aggregators.getFields: static fields are only included from the first class
+    private void fields(TypeElement type, List<String> statements) {
+        boolean first = true;
+        for (TypeElement cls = type; cls != null; cls = superclass(cls)) {
+            for (VariableElement field : ElementFilter.fieldsIn(cls.getEnclosedElements())) {
+                if (hasInjectionAnnotation(field) && (first || !field.getModifiers().contains(Modifier.STATIC))) {
+                    statements.add("sink.field(" + literal(binaryName(cls)) + ", " + literal(field.getSimpleName().toString()) + ")");
+                }
+            }
+            first = false;
+        }
+    }
+
+    //Mirrors Aggregators.getMethods: public instance methods (including inherited ones), then static methods declared by
+    //the first class, then protected and package-private instance methods from the whole superclass chain
+    private void methods(TypeElement type, List<String> statements) {
+        for (ExecutableElement method : ElementFilter.methodsIn(this.processingEnv.getElementUtils().getAllMembers(type))) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC) && injectableMethod(method)) {
+                statements.add(method(method));
+            }
+        }
+
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (method.getModifiers().contains(Modifier.STATIC) && injectableMethod(method)) {
+                statements.add(method(method));
+            }
+        }
+
+        Set<String> seen = new HashSet<>();
+        for (TypeElement cls = type; cls != null; cls = superclass(cls)) {
+            for (ExecutableElement method : ElementFilter.methodsIn(cls.getEnclosedElements())) {
+                Set<Modifier> modifiers = method.getModifiers();
+                if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.PRIVATE) &&
+                        injectableMethod(method) && seen.add(method.getSimpleName() + parameterTypes(method) + erasedName(method.getReturnType()))) {
+                    statements.add(method(method));
+                }
+            }
+        }
+    }
+
+    //Mirrors Aggregators.getConstructors: only public constructors are aggregated
+    private void constructors(TypeElement type, List<String> statements) {
+        //Inner class constructors take their enclosing instance as an unannotated first parameter at runtime
+        boolean inner = type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC);
+
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC) &&
+                    (hasInjectionAnnotation(constructor) || (!inner && constructor.getParameters().stream().allMatch(this::hasInjectionAnnotation)))) {
+                List<String> parameters = new ArrayList<>();
+                parameters.add(literal(binaryName(type)));
+                if (inner) {
+                    parameters.add(literal(binaryName((TypeElement) type.getEnclosingElement())));
+                }
+                constructor.getParameters().forEach(p -> parameters.add(literal(erasedName(p.asType()))));
+                statements.add("sink.constructor(" + String.join(", ", parameters) + ")");
+            }
+        }
+    }
+
+    private boolean injectableMethod(ExecutableElement method) {
+        return hasInjectionAnnotation(method) ||
+                (!method.getParameters().isEmpty() && method.getParameters().stream().allMatch(this::hasInjectionAnnotation));
+    }
+
+    private String method(ExecutableElement method) {
+        List<String> parameters = new ArrayList<>();
+        parameters.add(literal(binaryName((TypeElement) method.getEnclosingElement())));
+        parameters.add(literal(method.getSimpleName().toString()));
+        method.getParameters().forEach(p -> parameters.add(literal(erasedName(p.asType()))));
+        return "sink.method(" + String.join(", ", parameters) + ")";
+    }
+
+    private String parameterTypes(ExecutableElement method) {
+        return method.getParameters().stream().map(p -> erasedName(p.asType())).collect(Collectors.joining(",", "(", ")"));
+    }
+
+    private boolean hasInjectionAnnotation(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            Element annotation = mirror.getAnnotationType().asElement();
+            Retention retention = annotation.getAnnotation(Retention.class);
+            if (retention != null && retention.value() == RetentionPolicy.RUNTIME) {
+                for (AnnotationMirror meta : annotation.getAnnotationMirrors()) {
+                    if (((TypeElement) meta.getAnnotationType().asElement()).getQualifiedName().contentEquals(INJECTION_ANNOTATION)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+    }
+
+    private String binaryName(TypeElement type) {
+        return this.processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    //Produces names accepted by Class.forName, or primitive type names
+    private String erasedName(TypeMirror type) {
+        TypeMirror erased = this.processingEnv.getTypeUtils().erasure(type);
+        return switch (erased.getKind()) {
+            case ARRAY -> "[" + descriptor(((ArrayType) erased).getComponentType());
+            case DECLARED -> binaryName((TypeElement) ((DeclaredType) erased).asElement());
+            default -> erased.toString();
+        };
+    }
+
+    private String descriptor(TypeMirror type) {
+        TypeMirror erased = this.processingEnv.getTypeUtils().erasure(type);
+        return switch (erased.getKind()) {
+            case BOOLEAN -> "Z";
+            case BYTE -> "B";
+            case SHORT -> "S";
+            case CHAR -> "C";
+            case INT -> "I";
+            case LONG -> "J";
+            case FLOAT -> "F";
+            case DOUBLE -> "D";
+            case ARRAY -> "[" + descriptor(((ArrayType) erased).getComponentType());
+            default -> "L" + erasedName(erased) + ";";
+        };
+    }
+
+    private static String literal(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+}
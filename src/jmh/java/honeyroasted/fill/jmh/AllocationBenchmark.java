@@ -0,0 +1,50 @@
+package honeyroasted.fill.jmh;
+
+import honeyroasted.fill.reflect.ReflectionInjector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures re-injecting every field of an existing instance from instance bindings, which should not allocate. Run with
+ * the {@code gc} profiler, where {@code gc.alloc.rate.norm} is expected to be 0 bytes per operation for the
+ * {@code few} and {@code many} shapes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AllocationBenchmark {
+
+    @Param({"few", "many"})
+    public String shape;
+
+    private ReflectionInjector injector;
+    private Object instance;
+
+    @Setup
+    public void setup() {
+        //Every field is treated as unset, so each injection resolves and writes every field
+        this.injector = Shapes.bindAll(ReflectionInjector.builder().dummyObjectMatcher((target, value) -> true)).build();
+        this.instance = this.injector.createAndInject(Shapes.SHAPES.get(this.shape));
+    }
+
+    @Benchmark
+    public Object inject() {
+        this.injector.inject(this.instance);
+        return this.instance;
+    }
+
+}
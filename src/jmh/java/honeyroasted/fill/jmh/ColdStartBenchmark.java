@@ -0,0 +1,170 @@
+package honeyroasted.fill.jmh;
+
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.bindings.Binding;
+import honeyroasted.fill.reflect.Aggregators;
+import honeyroasted.fill.reflect.MemberAccess;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import honeyroasted.jype.system.JTypeSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures start-up latency in fresh JVMs. Every fork runs a single, unwarmed invocation, so each result is the cost
+ * of doing the work for the first time after boot. The phase benchmarks isolate where start-up time goes: trial setup
+ * performs the phases which precede the measured one, so only the measured phase runs cold.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ColdStartBenchmark {
+
+    @Param({"few", "many", "deep", "generic", "wildcard"})
+    public String shape;
+
+    private Class<?> type;
+
+    @Setup
+    public void setup() {
+        this.type = Shapes.SHAPES.get(this.shape);
+    }
+
+    /**
+     * The time from boot to the end of the first {@link ReflectionInjector#createAndInject(Class)}, including
+     * building the injector
+     */
+    @Benchmark
+    public Object firstInjection() {
+        return Shapes.bindAll(ReflectionInjector.builder()).build().createAndInject(this.type);
+    }
+
+    /**
+     * Measures the first N injections of a shape after boot, to show how quickly the injector reaches steady state
+     */
+    @State(Scope.Benchmark)
+    public static class Repeated {
+        @Param({"1", "10", "100", "1000"})
+        public int injections;
+    }
+
+    /**
+     * The time from boot to the end of the Nth {@link ReflectionInjector#createAndInject(Class)}, including building
+     * the injector
+     */
+    @Benchmark
+    public void nthInjection(Repeated repeated, Blackhole blackhole) {
+        ReflectionInjector injector = Shapes.bindAll(ReflectionInjector.builder()).build();
+        for (int i = 0; i < repeated.injections; i++) {
+            blackhole.consume(injector.createAndInject(this.type));
+        }
+    }
+
+    /**
+     * Member aggregation: scanning the shape for annotated fields, methods and constructors
+     */
+    @Benchmark
+    public void aggregation(Blackhole blackhole) {
+        blackhole.consume(Aggregators.ANNOTATED_FIELDS.apply(this.type));
+        blackhole.consume(Aggregators.ANNOTATED_METHODS.apply(this.type));
+        blackhole.consume(Aggregators.ANNOTATED_CONSTRUCTORS.apply(this.type));
+    }
+
+    /**
+     * Holds the members of a shape, aggregated during setup
+     */
+    @State(Scope.Benchmark)
+    public static class Aggregated {
+        public Collection<Field> fields;
+        public List<Parameter> parameters;
+        public Constructor<?> constructor;
+
+        @Setup
+        public void setup(ColdStartBenchmark benchmark) {
+            this.fields = Aggregators.ANNOTATED_FIELDS.apply(benchmark.type);
+            this.parameters = new ArrayList<>();
+            for (Constructor<?> constructor : Aggregators.ANNOTATED_CONSTRUCTORS.apply(benchmark.type)) {
+                this.parameters.addAll(List.of(constructor.getParameters()));
+                if (constructor.getParameterCount() == 0) {
+                    this.constructor = constructor;
+                }
+            }
+        }
+    }
+
+    /**
+     * Type resolution: initializing the {@link JTypeSystem} and resolving the types of every injection target
+     */
+    @Benchmark
+    public void typeResolution(Aggregated aggregated, Blackhole blackhole) {
+        for (Field field : aggregated.fields) {
+            blackhole.consume(new InjectionTarget(JTypeSystem.RUNTIME_REFLECTION, field));
+        }
+        for (Parameter parameter : aggregated.parameters) {
+            blackhole.consume(new InjectionTarget(JTypeSystem.RUNTIME_REFLECTION, parameter));
+        }
+    }
+
+    /**
+     * Holds the injection targets of a shape and the bindings to match against them, created during setup
+     */
+    @State(Scope.Benchmark)
+    public static class Resolved {
+        public List<InjectionTarget> targets;
+        public Binding binding;
+
+        @Setup
+        public void setup(Aggregated aggregated) {
+            this.targets = new ArrayList<>();
+            aggregated.fields.forEach(f -> this.targets.add(new InjectionTarget(JTypeSystem.RUNTIME_REFLECTION, f)));
+            aggregated.parameters.forEach(p -> this.targets.add(new InjectionTarget(JTypeSystem.RUNTIME_REFLECTION, p)));
+            this.binding = Shapes.bindAll(ReflectionInjector.builder()).build().binding();
+        }
+    }
+
+    /**
+     * Binding matching: deciding which binding claims each injection target
+     */
+    @Benchmark
+    public void bindingMatching(Resolved resolved, Blackhole blackhole) {
+        for (InjectionTarget target : resolved.targets) {
+            blackhole.consume(resolved.binding.claims(JTypeSystem.RUNTIME_REFLECTION, target));
+        }
+    }
+
+    /**
+     * Member access: resolving and first invoking the accessors for every injected field and constructor
+     */
+    @Benchmark
+    public void memberAccess(Aggregated aggregated, Blackhole blackhole) throws Throwable {
+        MemberAccess access = MemberAccess.handles(MethodHandles.lookup());
+        Object instance = access.constructor(aggregated.constructor).invoke(null, new Object[0]);
+
+        for (Field field : aggregated.fields) {
+            MemberAccess.FieldAccessor accessor = access.field(field);
+            blackhole.consume(accessor.get(instance));
+        }
+    }
+
+}
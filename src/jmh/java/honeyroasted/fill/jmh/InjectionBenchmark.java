@@ -0,0 +1,117 @@
+package honeyroasted.fill.jmh;
+
+import honeyroasted.fill.metrics.InjectionMetrics;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import honeyroasted.fill.reflect.ReflectionInjectorBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the steady state cost of the {@link ReflectionInjector} entry points across class {@link Shapes} and binding
+ * counts. Every field is treated as unset, so {@link #inject()} and {@link #injectStatic()} resolve and write every
+ * field rather than only reading fields set during setup. Run with the {@code gc} profiler to report allocation per
+ * operation.
+ * <p>
+ * Claimants are memoized after the first resolution of a target, so the steady state benchmarks do not test the
+ * filler bindings again, and the binding count only shows in {@link #firstResolution(Fresh)}, which injects with a new
+ * injector on every invocation. Filler bindings are named, so an indexed injector never tests them against the
+ * unnamed targets of the shapes, even on first resolution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InjectionBenchmark {
+
+    @Param({"few", "many", "deep", "generic", "wildcard"})
+    public String shape;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int bindings;
+
+    @Param({"false", "true"})
+    public boolean indexed;
+
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    @Param({"false", "true"})
+    public boolean compiled;
+
+    private ReflectionInjector injector;
+    private Class<?> type;
+    private Object instance;
+
+    @Setup
+    public void setup() {
+        this.injector = builder().build();
+        this.type = Shapes.SHAPES.get(this.shape);
+        this.instance = this.injector.createAndInject(this.type);
+    }
+
+    private ReflectionInjectorBuilder builder() {
+        ReflectionInjectorBuilder builder = ReflectionInjector.builder().indexed(this.indexed).compiled(this.compiled)
+                .metrics(this.metrics ? new InjectionMetrics() : null)
+                .dummyObjectMatcher((target, value) -> true);
+        Shapes.bindFiller(builder, this.bindings);
+        return Shapes.bindAll(builder);
+    }
+
+    /**
+     * Holds an injector which has not resolved any target yet, built again before every invocation
+     */
+    @State(Scope.Thread)
+    public static class Fresh {
+        public ReflectionInjector injector;
+
+        @Setup(Level.Invocation)
+        public void setup(InjectionBenchmark benchmark) {
+            this.injector = benchmark.builder().build();
+        }
+    }
+
+    @Benchmark
+    public Object create() {
+        return this.injector.create(this.type);
+    }
+
+    @Benchmark
+    public Object inject() {
+        this.injector.inject(this.instance);
+        return this.instance;
+    }
+
+    @Benchmark
+    public void injectStatic() {
+        this.injector.injectStatic(this.type);
+    }
+
+    @Benchmark
+    public Object createAndInject() {
+        return this.injector.createAndInject(this.type);
+    }
+
+    /**
+     * The first {@link ReflectionInjector#createAndInject(Class)} of a new injector, which tests every binding against
+     * each target before its claimants are memoized. Building the injector is not measured.
+     */
+    @Benchmark
+    public Object firstResolution(Fresh fresh) {
+        return fresh.injector.createAndInject(this.type);
+    }
+
+}
@@ -0,0 +1,96 @@
+package honeyroasted.fill.jmh;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.reflect.MemberAccess;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link MemberAccess} strategies available to a {@link ReflectionInjector}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MemberAccessBenchmark {
+
+    public static class Target {
+        @Inject
+        private String a;
+        @Inject
+        private String b;
+        @Inject
+        private Integer c;
+        @Inject
+        private Integer d;
+
+        private String e;
+        private Integer f;
+
+        @Inject
+        public Target(String e, Integer f) {
+            this.e = e;
+            this.f = f;
+        }
+
+        @Inject
+        void set(String e, Integer f) {
+            this.e = e;
+            this.f = f;
+        }
+    }
+
+    @Param({"reflection", "handles", "generated"})
+    public String access;
+
+    private ReflectionInjector injector;
+    private Target target;
+
+    @Setup
+    public void setup() {
+        MemberAccess memberAccess = switch (this.access) {
+            case "reflection" -> MemberAccess.reflection();
+            case "handles" -> MemberAccess.handles(MethodHandles.lookup());
+            case "generated" -> MemberAccess.generated(MethodHandles.lookup());
+            default -> throw new IllegalArgumentException(this.access);
+        };
+
+        this.injector = ReflectionInjector.builder()
+                .memberAccess(memberAccess)
+                .bind(String.class).toInstance("A")
+                .bind(Integer.class).toInstance(1)
+                .build();
+        this.target = this.injector.create(Target.class);
+    }
+
+    @Benchmark
+    public Target create() {
+        return this.injector.create(Target.class);
+    }
+
+    @Benchmark
+    public Target inject() {
+        this.target.a = null;
+        this.target.b = null;
+        this.target.c = null;
+        this.target.d = null;
+        this.injector.inject(this.target);
+        return this.target;
+    }
+
+}
@@ -0,0 +1,176 @@
+package honeyroasted.fill.jmh;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.reflect.ReflectionInjectorBuilder;
+import honeyroasted.jype.system.resolver.reflection.JTypeToken;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class shapes used as injection targets by the benchmarks
+ */
+public final class Shapes {
+    private Shapes() {}
+
+    /**
+     * The shapes available to the benchmarks, by name
+     */
+    public static final Map<String, Class<?>> SHAPES = Map.of(
+            "few", Few.class,
+            "many", Many.class,
+            "deep", Deep.class,
+            "generic", Generic.class,
+            "wildcard", Wildcard.class
+    );
+
+    /**
+     * Adds the bindings which satisfy every shape to the given builder
+     *
+     * @param builder The builder
+     * @return The builder, for method chaining
+     */
+    public static ReflectionInjectorBuilder bindAll(ReflectionInjectorBuilder builder) {
+        return builder
+                .bind(String.class).toInstance("A")
+                .bind(Integer.class).toInstance(1)
+                .bind(new JTypeToken<Map<String, Integer>>() {}).toInstance(Map.of("A", 1))
+                .bind(new JTypeToken<List<String>>() {}).toInstance(List.of("A"))
+                .bind(new JTypeToken<List<Integer>>() {}).toInstance(List.of(1));
+    }
+
+    /**
+     * Adds the given number of bindings which never claim a target of any shape to the given builder. They are tested
+     * when the claimants of a target are first resolved, and skipped afterwards, since claimants are memoized. They are
+     * bound to names, so an indexed injector does not test them against unnamed targets at all.
+     *
+     * @param builder The builder
+     * @param count   The number of bindings to add
+     * @return The builder, for method chaining
+     */
+    public static ReflectionInjectorBuilder bindFiller(ReflectionInjectorBuilder builder, int count) {
+        for (int i = 0; i < count; i++) {
+            builder.bind(String.class, "filler" + i).toInstance("filler");
+        }
+        return builder;
+    }
+
+    public static class Few {
+        @Inject
+        public static String staticValue;
+
+        @Inject
+        public String a;
+        @Inject
+        public Integer b;
+
+        @Inject
+        public Few() {}
+    }
+
+    public static class Many {
+        @Inject public String f0;
+        @Inject public String f1;
+        @Inject public String f2;
+        @Inject public String f3;
+        @Inject public String f4;
+        @Inject public String f5;
+        @Inject public String f6;
+        @Inject public String f7;
+        @Inject public Integer f8;
+        @Inject public Integer f9;
+        @Inject public Integer f10;
+        @Inject public Integer f11;
+        @Inject public Integer f12;
+        @Inject public Integer f13;
+        @Inject public Integer f14;
+        @Inject public Integer f15;
+        @Inject public String f16;
+        @Inject public String f17;
+        @Inject public String f18;
+        @Inject public String f19;
+        @Inject public String f20;
+        @Inject public String f21;
+        @Inject public String f22;
+        @Inject public String f23;
+        @Inject public Integer f24;
+        @Inject public Integer f25;
+        @Inject public Integer f26;
+        @Inject public Integer f27;
+        @Inject public Integer f28;
+        @Inject public Integer f29;
+        @Inject public Integer f30;
+        @Inject public Integer f31;
+
+        @Inject
+        public Many() {}
+    }
+
+    public static class Level0 {
+        @Inject
+        public String level0;
+    }
+
+    public static class Level1 extends Level0 {
+        @Inject
+        public Integer level1;
+    }
+
+    public static class Level2 extends Level1 {
+        @Inject
+        public String level2;
+    }
+
+    public static class Level3 extends Level2 {
+        @Inject
+        public Integer level3;
+    }
+
+    public static class Level4 extends Level3 {
+        @Inject
+        public String level4;
+    }
+
+    public static class Level5 extends Level4 {
+        @Inject
+        public Integer level5;
+    }
+
+    public static class Level6 extends Level5 {
+        @Inject
+        public String level6;
+    }
+
+    public static class Deep extends Level6 {
+        @Inject
+        public Integer level7;
+
+        @Inject
+        public Deep() {}
+    }
+
+    public static class Generic {
+        @Inject
+        public Map<String, Integer> map;
+        @Inject
+        public List<String> strings;
+        @Inject
+        public List<Integer> numbers;
+
+        @Inject
+        public Generic() {}
+    }
+
+    public static class Wildcard {
+        @Inject
+        public List<? extends CharSequence> strings;
+        @Inject
+        public List<? extends Number> numbers;
+        @Inject
+        public List<? super Integer> integers;
+
+        @Inject
+        public Wildcard() {}
+    }
+
+}
@@ -0,0 +1,93 @@
+package honeyroasted.fill;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The result of injecting into a batch of objects. An object which fails to be injected does not abort the batch, and
+ * is instead recorded as a {@link Failure}.
+ */
+public class BatchInjectionResult {
+    static final int CHUNK_SIZE = 256;
+
+    private final int size;
+    private final List<Failure> failures;
+
+    /**
+     * Creates a new {@link BatchInjectionResult}
+     *
+     * @param size     The number of objects in the batch
+     * @param failures The failures in the batch
+     */
+    public BatchInjectionResult(int size, List<Failure> failures) {
+        this.size = size;
+        this.failures = failures.stream().sorted(Comparator.comparingInt(Failure::index)).toList();
+    }
+
+    /**
+     * Concatenates the results of consecutive slices of a batch, offsetting the failure indices of each result by the
+     * sizes of the results before it
+     *
+     * @param results The results, in batch order
+     * @return A new {@link BatchInjectionResult} covering the whole batch
+     */
+    public static BatchInjectionResult concat(List<BatchInjectionResult> results) {
+        int size = 0;
+        List<Failure> failures = new ArrayList<>();
+        for (BatchInjectionResult result : results) {
+            for (Failure failure : result.failures) {
+                failures.add(new Failure(size + failure.index(), failure.object(), failure.exception()));
+            }
+            size += result.size;
+        }
+        return new BatchInjectionResult(size, failures);
+    }
+
+    /**
+     * @return The number of objects in the batch
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return The objects which could not be injected, ordered by their index in the batch
+     */
+    public List<Failure> failures() {
+        return this.failures;
+    }
+
+    /**
+     * @return True if every object in the batch was injected
+     */
+    public boolean successful() {
+        return this.failures.isEmpty();
+    }
+
+    /**
+     * Throws an {@link InjectionException} if any object in the batch could not be injected. The exceptions of the
+     * failures are added as suppressed exceptions.
+     *
+     * @return This, for method chaining
+     */
+    public BatchInjectionResult throwIfFailed() {
+        if (!this.failures.isEmpty()) {
+            InjectionException exception = new InjectionException(this.failures.size() + " of " + this.size + " objects could not be injected");
+            this.failures.forEach(f -> exception.addSuppressed(f.exception()));
+            throw exception;
+        }
+        return this;
+    }
+
+    /**
+     * An object in a batch which could not be injected
+     *
+     * @param index     The index of the object in the batch
+     * @param object    The object
+     * @param exception The exception thrown while injecting the object
+     */
+    public record Failure(int index, Object object, RuntimeException exception) {
+    }
+
+}
@@ -1,11 +1,14 @@
 package honeyroasted.fill;
 
 /**
- * The result of an attempted injection
+ * The immutable result of an attempted injection. Results may be shared, so bindings which always produce the same
+ * value can create their result once and return it from every handle call.
  */
 public class InjectionResult {
-    private Type type;
-    private Object value;
+    private static final InjectionResult IGNORE = new InjectionResult(Type.IGNORE, null);
+
+    private final Type type;
+    private final Object value;
 
     /**
      * Creates a new {@link InjectionResult}
@@ -23,17 +26,17 @@ public class InjectionResult {
      * {@link Type#IGNORE}, otherwise it will be of the type {@link Type#SET}
      *
      * @param value The value of the result
-     * @return A new {@link InjectionResult}
+     * @return An {@link InjectionResult}, which is the shared {@link #ignore()} result if the value is null
      */
     public static InjectionResult of(Object value) {
-        return new InjectionResult(value == null ? Type.IGNORE : Type.SET, value);
+        return value == null ? IGNORE : new InjectionResult(Type.SET, value);
     }
 
     /**
-     * @return A new {@link InjectionResult} of the type {@link Type#IGNORE} with a null value
+     * @return The shared {@link InjectionResult} of the type {@link Type#IGNORE} with a null value
      */
     public static InjectionResult ignore() {
-        return new InjectionResult(Type.IGNORE, null);
+        return IGNORE;
     }
 
     /**
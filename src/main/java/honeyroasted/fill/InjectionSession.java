@@ -0,0 +1,272 @@
+package honeyroasted.fill;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A single resolution of an object graph on the current thread. Within a session, each class built through
+ * {@link #resolve(Class, Function)} is built at most once and reused by every target that depends on it, and a class
+ * which depends on itself, directly or indirectly, is reported with the path of the cycle. A session may also hold
+ * values for session scoped bindings, through {@link #computeIfAbsent(Object, Supplier)}, {@link #get(Object)} and
+ * {@link #put(Object, Object)}.
+ * <p>
+ * A session is usually open on a single thread, but it may be shared with tasks on other threads through
+ * {@link #executor(Executor)}. Classes and values are memoized per key, so threads only wait for each other when they
+ * need the same class or value, and a cycle between threads waiting for each other is reported like any other cycle.
+ * No lock is held while a class or value is being built.
+ */
+public final class InjectionSession {
+    private static final ThreadLocal<InjectionSession> CURRENT = new ThreadLocal<>();
+
+    private final Map<Class<?>, Entry> instances = new ConcurrentHashMap<>();
+    private final Map<Object, Entry> values = new ConcurrentHashMap<>();
+
+    //Guarded by this session, and only held while entries are claimed or waited for
+    private final Map<Thread, List<Class<?>>> paths = new HashMap<>();
+    private final Map<Thread, Entry> waiting = new HashMap<>();
+
+    private InjectionSession() {}
+
+    /**
+     * @return The session open on the current thread, or null if there is none
+     */
+    public static InjectionSession current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Creates a new session, which is not open on any thread. It is opened for the tasks run by
+     * {@link #executor(Executor)}.
+     *
+     * @return A new {@link InjectionSession}
+     */
+    public static InjectionSession create() {
+        return new InjectionSession();
+    }
+
+    /**
+     * Runs the given action within a session. If a session is already open on the current thread, the action joins it,
+     * otherwise a new session is opened for the duration of the action.
+     *
+     * @param action The action to run
+     * @param <T>    The type of the action's result
+     * @return The result of the action
+     */
+    public static <T> T run(Supplier<T> action) {
+        if (CURRENT.get() != null) {
+            return action.get();
+        }
+
+        CURRENT.set(new InjectionSession());
+        try {
+            return action.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Gets the instance of the given class in this session, building it with the given factory if this session has not
+     * built it yet. If another thread is building the class, this waits for its instance.
+     *
+     * @param type    The class to resolve
+     * @param factory The function used to build an instance of the class
+     * @param <T>     The type of the class
+     * @return The instance of the class in this session
+     * @throws InjectionException If building the class requires an instance of the class
+     */
+    public <T> T resolve(Class<T> type, Function<Class<T>, T> factory) {
+        return (T) memoize(this.instances, type, type, () -> factory.apply(type));
+    }
+
+    /**
+     * Gets a value stored in this session, computing and storing it with the given factory if this session holds no
+     * value for the key. If another thread is computing the value, this waits for it. If the factory returns null,
+     * nothing is stored, and threads which waited for the value compute it themselves.
+     *
+     * @param key     The key of the value
+     * @param factory The function used to compute the value
+     * @param <T>     The type of the value
+     * @return The value, or null if the factory returned null
+     * @throws InjectionException If computing the value requires the value itself
+     */
+    public <T> T computeIfAbsent(Object key, Supplier<T> factory) {
+        return (T) memoize(this.values, key, null, factory);
+    }
+
+    /**
+     * Gets a value stored in this session
+     *
+     * @param key The key of the value
+     * @return The value, or null if no value is stored for the key, or it is still being computed
+     */
+    public Object get(Object key) {
+        Entry entry = this.values.get(key);
+        return entry == null || !entry.future().isDone() || entry.future().isCompletedExceptionally() ? null : entry.future().join();
+    }
+
+    /**
+     * Stores a value in this session, for the rest of the session
+     *
+     * @param key   The key of the value
+     * @param value The value
+     */
+    public void put(Object key, Object value) {
+        this.values.put(key, new Entry(null, null, CompletableFuture.completedFuture(value)));
+    }
+
+    /**
+     * @return The classes currently being built in this session by the current thread, outermost first
+     */
+    public synchronized List<Class<?>> path() {
+        List<Class<?>> path = this.paths.get(Thread.currentThread());
+        return path == null ? List.of() : List.copyOf(path);
+    }
+
+    /**
+     * Wraps the given {@link Executor}, so that each task it runs joins this session, as if by {@link #run(Supplier)}
+     * on the thread which opened it. The session previously open on the task's thread, if any, is restored afterwards.
+     *
+     * @param executor The executor to wrap
+     * @return An executor which runs tasks within this session
+     */
+    public Executor executor(Executor executor) {
+        return task -> executor.execute(() -> {
+            InjectionSession previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        });
+    }
+
+    //Computes the value of a key at most once, or waits for the thread computing it. Null values are not memoized
+    private <K> Object memoize(Map<K, Entry> entries, K key, Class<?> type, Supplier<?> factory) {
+        Thread thread = Thread.currentThread();
+        while (true) {
+            Entry entry;
+            boolean owner = false;
+            synchronized (this) {
+                entry = entries.get(key);
+                if (entry == null) {
+                    entry = new Entry(key, thread, new CompletableFuture<>());
+                    entries.put(key, entry);
+                    if (type != null) {
+                        this.paths.computeIfAbsent(thread, t -> new ArrayList<>()).add(type);
+                    }
+                    owner = true;
+                } else if (!entry.future().isDone()) {
+                    List<Object> cycle = cycle(entry, thread);
+                    if (cycle != null) {
+                        throw new InjectionException("Dependency cycle detected: " + cycle.stream()
+                                .map(k -> k instanceof Class<?> cls ? cls.getName() : String.valueOf(k))
+                                .collect(Collectors.joining(" -> ")));
+                    }
+                    this.waiting.put(thread, entry);
+                }
+            }
+
+            if (owner) {
+                return compute(entries, entry, type, factory);
+            }
+
+            Object value;
+            try {
+                value = entry.future().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+                if (e.getCause() instanceof Error error) throw error;
+                throw e;
+            } finally {
+                synchronized (this) {
+                    this.waiting.remove(thread);
+                }
+            }
+
+            if (value != null || entries.get(key) == entry) {
+                return value;
+            }
+        }
+    }
+
+    private <K> Object compute(Map<K, Entry> entries, Entry entry, Class<?> type, Supplier<?> factory) {
+        Object value;
+        try {
+            value = factory.get();
+        } catch (RuntimeException | Error e) {
+            release(entries, entry, type);
+            entry.future().completeExceptionally(e);
+            throw e;
+        }
+
+        if (value == null) {
+            release(entries, entry, type);
+        } else {
+            synchronized (this) {
+                pop(type);
+            }
+        }
+        entry.future().complete(value);
+        return value;
+    }
+
+    private synchronized <K> void release(Map<K, Entry> entries, Entry entry, Class<?> type) {
+        entries.remove((K) entry.key(), entry);
+        pop(type);
+    }
+
+    private void pop(Class<?> type) {
+        if (type != null) {
+            List<Class<?>> path = this.paths.get(Thread.currentThread());
+            path.remove(path.size() - 1);
+            if (path.isEmpty()) {
+                this.paths.remove(Thread.currentThread());
+            }
+        }
+    }
+
+    //Follows the threads waiting for each other from the owner of the entry, returning the cycle if it leads back here
+    private List<Object> cycle(Entry entry, Thread thread) {
+        List<Object> cycle = new ArrayList<>();
+        Entry current = entry;
+        for (int i = 0; i <= this.waiting.size(); i++) {
+            List<Class<?>> path = this.paths.get(current.thread());
+            int index = path == null ? -1 : path.indexOf(current.key());
+            if (index < 0) {
+                cycle.add(current.key());
+            } else {
+                cycle.addAll(path.subList(index, path.size()));
+            }
+
+            if (current.thread() == thread) {
+                cycle.add(entry.key());
+                return cycle;
+            }
+
+            current = this.waiting.get(current.thread());
+            if (current == null) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private record Entry(Object key, Thread thread, CompletableFuture<Object> future) {
+    }
+
+}
@@ -4,19 +4,39 @@ import honeyroasted.jype.system.JTypeSystem;
 import honeyroasted.jype.type.JType;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.Parameter;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Represents a target for a single value injection
+ * Represents a target for a single value injection. The annotations of a target are indexed by their types when it is
+ * created, so annotation lookups do not allocate. {@link InjectionTarget}s are immutable, and the targets for fields
+ * and parameters may be shared through {@link #of(JTypeSystem, Field)} and {@link #of(JTypeSystem, Parameter)}.
  */
 public class InjectionTarget {
-    private String name;
-    private JType type;
-    private Class<?> rawType;
-    private List<? extends Annotation> annotations;
+    private static final ClassValue<Map<InternKey, InjectionTarget>> INTERNED = new ClassValue<>() {
+        @Override
+        protected Map<InternKey, InjectionTarget> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final String name;
+    private final JType type;
+    private final Class<?> rawType;
+    private final List<? extends Annotation> annotations;
+    private final AnnotatedElement element;
+    private final Class<?> plainType;
+    private final boolean interned;
+
+    private final Class<?>[] annotationTypes;
+    private final Annotation[] annotationValues;
+    private final List<Class<? extends Annotation>> annotationTypeList;
+    private final String injectName;
 
     /**
      * Creates a new {@link InjectionTarget}
@@ -27,10 +47,39 @@ public class InjectionTarget {
      * @param annotations The annotations on this injection target
      */
     public InjectionTarget(String name, JType type, Class<?> rawType, List<? extends Annotation> annotations) {
+        this(name, type, rawType, annotations, null);
+    }
+
+    /**
+     * Creates a new {@link InjectionTarget}
+     *
+     * @param name        The name of this injection target
+     * @param type        The type of this injection target
+     * @param rawType     The raw {@link Class} type of this injection target
+     * @param annotations The annotations on this injection target
+     * @param element     The {@link Field} or {@link Parameter} this injection target was derived from, or null
+     */
+    public InjectionTarget(String name, JType type, Class<?> rawType, List<? extends Annotation> annotations, AnnotatedElement element) {
+        this(name, type, rawType, annotations, element, false);
+    }
+
+    private InjectionTarget(String name, JType type, Class<?> rawType, List<? extends Annotation> annotations, AnnotatedElement element, boolean interned) {
         this.name = name;
+        this.interned = interned;
         this.type = type;
         this.rawType = rawType;
-        this.annotations = annotations;
+        this.annotations = List.copyOf(annotations);
+        this.element = element;
+
+        this.annotationValues = this.annotations.toArray(Annotation[]::new);
+        this.annotationTypeList = Arrays.stream(this.annotationValues).<Class<? extends Annotation>>map(Annotation::annotationType).toList();
+        this.annotationTypes = this.annotationTypeList.toArray(Class<?>[]::new);
+
+        Inject inject = this.get(Inject.class);
+        this.injectName = inject == null ? null : inject.value();
+
+        this.plainType = element instanceof Field field ? PlainTypes.plain(field.getGenericType()) :
+                element instanceof Parameter parameter ? PlainTypes.plain(parameter.getParameterizedType()) : null;
     }
 
     /**
@@ -40,7 +89,7 @@ public class InjectionTarget {
      * @param field  The field to target
      */
     public InjectionTarget(JTypeSystem system, Field field) {
-        this(field.getName(), system.tryResolve(field.getGenericType()), field.getType(), Arrays.asList(field.getAnnotations()));
+        this(field.getName(), system.tryResolve(field.getGenericType()), field.getType(), List.of(field.getAnnotations()), field);
     }
 
     /**
@@ -50,7 +99,33 @@ public class InjectionTarget {
      * @param parameter The parameter to target
      */
     public InjectionTarget(JTypeSystem system, Parameter parameter) {
-        this(parameter.getName(), system.tryResolve(parameter.getParameterizedType()), parameter.getType(), Arrays.asList(parameter.getAnnotations()));
+        this(parameter.getName(), system.tryResolve(parameter.getParameterizedType()), parameter.getType(), List.of(parameter.getAnnotations()), parameter);
+    }
+
+    /**
+     * Gets the shared {@link InjectionTarget} for a {@link Field}, creating it if necessary. Shared targets are held
+     * per declaring class of the field, and do not prevent it from being unloaded.
+     *
+     * @param system The {@link JTypeSystem} to use for resolving types
+     * @param field  The field to target
+     * @return The shared {@link InjectionTarget} for the field
+     */
+    public static InjectionTarget of(JTypeSystem system, Field field) {
+        return INTERNED.get(field.getDeclaringClass()).computeIfAbsent(new InternKey(system, field), k ->
+                new InjectionTarget(field.getName(), system.tryResolve(field.getGenericType()), field.getType(), List.of(field.getAnnotations()), field, true));
+    }
+
+    /**
+     * Gets the shared {@link InjectionTarget} for a method {@link Parameter}, creating it if necessary. Shared targets
+     * are held per declaring class of the parameter's executable, and do not prevent it from being unloaded.
+     *
+     * @param system    The {@link JTypeSystem} to use for resolving types
+     * @param parameter The parameter to target
+     * @return The shared {@link InjectionTarget} for the parameter
+     */
+    public static InjectionTarget of(JTypeSystem system, Parameter parameter) {
+        return INTERNED.get(parameter.getDeclaringExecutable().getDeclaringClass()).computeIfAbsent(new InternKey(system, parameter), k ->
+                new InjectionTarget(parameter.getName(), system.tryResolve(parameter.getParameterizedType()), parameter.getType(), List.of(parameter.getAnnotations()), parameter, true));
     }
 
     /**
@@ -81,6 +156,51 @@ public class InjectionTarget {
         return this.annotations;
     }
 
+    /**
+     * @return The types of the {@link Annotation}s on this {@link InjectionTarget}, in the same order as
+     * {@link #annotations()}
+     */
+    public List<Class<? extends Annotation>> annotationTypes() {
+        return this.annotationTypeList;
+    }
+
+    /**
+     * @return The name given by the {@link Inject} annotation on this {@link InjectionTarget}, or null if it is not
+     * annotated with {@link Inject}
+     */
+    public String injectName() {
+        return this.injectName;
+    }
+
+    /**
+     * Returns the declared type of this {@link InjectionTarget} if it is a plain type, as defined by {@link PlainTypes}.
+     * Type checks against a plain target may be answered without the {@link JTypeSystem}.
+     *
+     * @return The plain {@link Class} type of this {@link InjectionTarget}, or null if it is not plain or not known
+     */
+    public Class<?> plainType() {
+        return this.plainType;
+    }
+
+    /**
+     * Returns the {@link Field} or {@link Parameter} this {@link InjectionTarget} was derived from. Targets derived from
+     * the same element with the same {@link JTypeSystem} are interchangeable, which allows bindings to memoize their
+     * decisions per element.
+     *
+     * @return The element of this {@link InjectionTarget}, or null if it was not derived from an element
+     */
+    public AnnotatedElement element() {
+        return this.element;
+    }
+
+    /**
+     * @return True if this {@link InjectionTarget} is a shared target from {@link #of(JTypeSystem, Field)} or
+     * {@link #of(JTypeSystem, Parameter)}, which is the only target for its element and {@link JTypeSystem}
+     */
+    public boolean interned() {
+        return this.interned;
+    }
+
     /**
      * Checks if this {@link InjectionTarget} has an {@link Annotation} of the given type
      *
@@ -88,7 +208,7 @@ public class InjectionTarget {
      * @return True if this target has an annotation of the given type
      */
     public boolean has(Class<? extends Annotation> cls) {
-        return this.annotations.stream().anyMatch(cls::isInstance);
+        return this.get(cls) != null;
     }
 
     /**
@@ -99,7 +219,24 @@ public class InjectionTarget {
      * @return The {@link Annotation}, or null if no annotation of type {@code T} was found
      */
     public <T extends Annotation> T get(Class<T> cls) {
-        return (T) this.annotations.stream().filter(cls::isInstance).findFirst().orElse(null);
+        Class<?>[] types = this.annotationTypes;
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == cls) {
+                return (T) this.annotationValues[i];
+            }
+        }
+
+        if (!cls.isAnnotation()) {
+            for (Annotation annotation : this.annotationValues) {
+                if (cls.isInstance(annotation)) {
+                    return (T) annotation;
+                }
+            }
+        }
+        return null;
+    }
+
+    private record InternKey(JTypeSystem system, AnnotatedElement element) {
     }
 
 }
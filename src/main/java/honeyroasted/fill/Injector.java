@@ -1,5 +1,12 @@
 package honeyroasted.fill;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * An injector capable of injecting fields, methods, and constructors
  *
@@ -38,6 +45,31 @@ public interface Injector<I extends Injector<I, B>, B extends InjectorBuilder<B,
      */
     <T> T create(Class<T> cls);
 
+    /**
+     * Creates a new instance of the given class by attempting to inject into a constructor, resolving the constructor's
+     * parameters concurrently on virtual threads
+     *
+     * @param cls The class to instantiate
+     * @param <T> The type of the class
+     * @return A future which completes with a new instance of {@code T}, or exceptionally with an {@link InjectionException}
+     */
+    default <T> CompletableFuture<T> createAsync(Class<T> cls) {
+        return createAsync(cls, Thread::startVirtualThread);
+    }
+
+    /**
+     * Creates a new instance of the given class by attempting to inject into a constructor, resolving the constructor's
+     * parameters concurrently on the given {@link Executor}. By default, this runs {@link #create(Class)} on the executor.
+     *
+     * @param cls      The class to instantiate
+     * @param executor The executor to resolve parameters on
+     * @param <T>      The type of the class
+     * @return A future which completes with a new instance of {@code T}, or exceptionally with an {@link InjectionException}
+     */
+    default <T> CompletableFuture<T> createAsync(Class<T> cls, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> create(cls), executor);
+    }
+
     /**
      * Attempts to inject the appropriate fields, and call the appropriate injection methods, on the given object
      *
@@ -51,4 +83,68 @@ public interface Injector<I extends Injector<I, B>, B extends InjectorBuilder<B,
      * @param cls The class to inject into
      */
     void injectStatic(Class<?> cls);
+
+    /**
+     * Attempts to inject into each of the given objects, as with {@link #inject(Object)}. An object which fails to be
+     * injected is recorded in the result, and does not prevent the remaining objects from being injected.
+     *
+     * @param objects The objects to inject into
+     * @return The result of the batch
+     */
+    default BatchInjectionResult injectAll(Collection<?> objects) {
+        List<BatchInjectionResult.Failure> failures = new ArrayList<>();
+        int index = 0;
+        for (Object object : objects) {
+            try {
+                inject(object);
+            } catch (RuntimeException e) {
+                failures.add(new BatchInjectionResult.Failure(index, object, e));
+            }
+            index++;
+        }
+        return new BatchInjectionResult(index, failures);
+    }
+
+    /**
+     * Attempts to inject into each of the given objects, as with {@link #injectAll(Collection)}
+     *
+     * @param objects The objects to inject into
+     * @return The result of the batch
+     */
+    default BatchInjectionResult injectAll(Object[] objects) {
+        return injectAll(Arrays.asList(objects));
+    }
+
+    /**
+     * Attempts to inject into each of the given objects, as with {@link #injectAll(Collection)}, splitting large batches
+     * into slices which are injected on the given {@link Executor}. This method blocks until every slice is done.
+     *
+     * @param objects  The objects to inject into
+     * @param executor The executor to inject slices of the batch on, such as a {@link java.util.concurrent.ForkJoinPool}
+     * @return The result of the batch
+     */
+    default BatchInjectionResult injectAll(Collection<?> objects, Executor executor) {
+        List<Object> batch = Arrays.asList(objects.toArray());
+        if (batch.size() <= BatchInjectionResult.CHUNK_SIZE) {
+            return injectAll(batch);
+        }
+
+        List<CompletableFuture<BatchInjectionResult>> slices = new ArrayList<>();
+        for (int start = 0; start < batch.size(); start += BatchInjectionResult.CHUNK_SIZE) {
+            List<Object> slice = batch.subList(start, Math.min(batch.size(), start + BatchInjectionResult.CHUNK_SIZE));
+            slices.add(CompletableFuture.supplyAsync(() -> injectAll(slice), executor));
+        }
+        return BatchInjectionResult.concat(slices.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * Attempts to inject into each of the given objects, as with {@link #injectAll(Collection, Executor)}
+     *
+     * @param objects  The objects to inject into
+     * @param executor The executor to inject slices of the batch on
+     * @return The result of the batch
+     */
+    default BatchInjectionResult injectAll(Object[] objects, Executor executor) {
+        return injectAll(Arrays.asList(objects), executor);
+    }
 }
@@ -0,0 +1,17 @@
+package honeyroasted.fill;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation which marks an interface typed injection target as lazy. A lazy target is injected with a proxy, which
+ * resolves the binding for the target on its first method call and delegates every call to the resolved value. This
+ * annotation does not make a field or parameter eligible for injection on its own.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+public @interface Lazy {
+
+}
@@ -0,0 +1,90 @@
+package honeyroasted.fill;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+
+/**
+ * Utility interface for answering type questions about plain types without the Jype solver. A plain type is a
+ * {@link Class} which is not generic, is not an inner class of a generic class, and is not an array of such a type. For
+ * plain types, loose invocation compatibility reduces to identity, primitive widening, boxing, unboxing and
+ * {@link Class#isAssignableFrom(Class)}.
+ */
+public interface PlainTypes {
+
+    /**
+     * Determines whether the given type is plain
+     *
+     * @param type The type to check
+     * @return The type as a {@link Class} if it is plain, or null otherwise
+     */
+    static Class<?> plain(Type type) {
+        if (!(type instanceof Class<?> cls)) {
+            return null;
+        }
+
+        Class<?> component = cls;
+        while (component.isArray()) {
+            component = component.getComponentType();
+        }
+
+        for (Class<?> current = component; current != null; current = Modifier.isStatic(current.getModifiers()) ? null : current.getEnclosingClass()) {
+            if (current.getTypeParameters().length > 0) {
+                return null;
+            }
+        }
+        return cls;
+    }
+
+    /**
+     * Checks whether a value of one plain type may be assigned to another plain type in a loose invocation context
+     *
+     * @param type   The type of the value
+     * @param target The target type
+     * @return True if a value of the given type may be assigned to the target type
+     */
+    static boolean isCompatible(Class<?> type, Class<?> target) {
+        if (type == target) {
+            return true;
+        } else if (type.isPrimitive() && target.isPrimitive()) {
+            return isWidening(type, target);
+        } else if (type.isPrimitive()) {
+            return target.isAssignableFrom(MethodType.methodType(type).wrap().returnType());
+        } else if (target.isPrimitive()) {
+            Class<?> unboxed = MethodType.methodType(type).unwrap().returnType();
+            return unboxed.isPrimitive() && (unboxed == target || isWidening(unboxed, target));
+        }
+        return target.isAssignableFrom(type);
+    }
+
+    /**
+     * Checks whether one primitive type may be converted to another by a widening primitive conversion
+     *
+     * @param type   The primitive type of the value
+     * @param target The primitive target type
+     * @return True if the conversion is a widening primitive conversion
+     */
+    static boolean isWidening(Class<?> type, Class<?> target) {
+        int from = type == char.class ? rank(short.class) : rank(type);
+        int to = rank(target);
+        return from >= 0 && to > from;
+    }
+
+    private static int rank(Class<?> type) {
+        if (type == byte.class) {
+            return 0;
+        } else if (type == short.class) {
+            return 1;
+        } else if (type == int.class) {
+            return 2;
+        } else if (type == long.class) {
+            return 3;
+        } else if (type == float.class) {
+            return 4;
+        } else if (type == double.class) {
+            return 5;
+        }
+        return -1;
+    }
+
+}
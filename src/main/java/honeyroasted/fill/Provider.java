@@ -0,0 +1,15 @@
+package honeyroasted.fill;
+
+import java.util.function.Supplier;
+
+/**
+ * A handle to a value which may be resolved later. Injection targets of type {@link Provider} or {@link Supplier}
+ * which no binding claims are injected with a handle which resolves the binding for the provided type on the first call
+ * to {@link #get()}, and returns the same value afterwards.
+ *
+ * @param <T> The type of the provided value
+ */
+@FunctionalInterface
+public interface Provider<T> extends Supplier<T> {
+
+}
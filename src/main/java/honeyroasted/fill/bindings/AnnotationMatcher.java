@@ -0,0 +1,20 @@
+package honeyroasted.fill.bindings;
+
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.jype.system.JTypeSystem;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * A {@link Matcher} that matches {@link InjectionTarget}s with a given annotation
+ *
+ * @param annotationType The annotation type to match
+ */
+public record AnnotationMatcher(Class<? extends Annotation> annotationType) implements Matcher {
+
+    @Override
+    public boolean test(InjectionTarget target, JTypeSystem system) {
+        return target.has(this.annotationType);
+    }
+
+}
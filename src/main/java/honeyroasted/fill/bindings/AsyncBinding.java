@@ -0,0 +1,68 @@
+package honeyroasted.fill.bindings;
+
+import honeyroasted.fill.InjectionException;
+import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.jype.system.JTypeSystem;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+
+/**
+ * An implementation of {@link SimpleBinding} which handles targets with a function returning a {@link CompletableFuture}.
+ * When handled synchronously, it blocks until the future completes.
+ */
+public class AsyncBinding extends SimpleBinding {
+    private BiFunction<InjectionTarget, JTypeSystem, ? extends CompletableFuture<InjectionResult>> factory;
+
+    /**
+     * Creates a new {@link AsyncBinding} that claims {@link InjectionTarget}s with the given predicate and handles bindings
+     * with the given asynchronous function
+     *
+     * @param claimTest The claim predicate
+     * @param factory   The asynchronous binding handler
+     */
+    public AsyncBinding(BiPredicate<InjectionTarget, JTypeSystem> claimTest, BiFunction<InjectionTarget, JTypeSystem, ? extends CompletableFuture<InjectionResult>> factory) {
+        super(claimTest, (target, system) -> join(factory.apply(target, system)));
+        this.factory = factory;
+    }
+
+    @Override
+    public CompletableFuture<InjectionResult> handleAsync(JTypeSystem system, InjectionTarget target, Executor executor) {
+        try {
+            return this.factory.apply(target, system);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    //Cancels the source when the derived future is cancelled, since cancellation does not propagate back along a chain of futures
+    static <T> CompletableFuture<T> cancelling(CompletableFuture<T> derived, Future<?> source) {
+        derived.whenComplete((value, error) -> {
+            if (derived.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return derived;
+    }
+
+    private static InjectionResult join(CompletableFuture<InjectionResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof InjectionException injection ? injection : new InjectionException("Failed to resolve asynchronous binding", e.getCause());
+        } catch (CancellationException e) {
+            throw new InjectionException("Asynchronous binding was cancelled", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncBinding[" + claimTest() + "]";
+    }
+}
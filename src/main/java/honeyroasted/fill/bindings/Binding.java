@@ -4,6 +4,9 @@ import honeyroasted.fill.InjectionResult;
 import honeyroasted.fill.InjectionTarget;
 import honeyroasted.jype.system.JTypeSystem;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * Represents an injection binding
  */
@@ -27,4 +30,29 @@ public interface Binding {
      */
     InjectionResult handle(JTypeSystem system, InjectionTarget target);
 
+    /**
+     * Handles the given {@link InjectionTarget} asynchronously. By default, this runs {@link #handle(JTypeSystem, InjectionTarget)}
+     * on the given {@link Executor}, bindings which are asynchronous by nature should override it.
+     *
+     * @param system   The {@link JTypeSystem} to use for type logic
+     * @param target   The injection target
+     * @param executor The executor to handle the target on
+     * @return A future which completes with the {@link InjectionResult} of handling the given target
+     */
+    default CompletableFuture<InjectionResult> handleAsync(JTypeSystem system, InjectionTarget target, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> handle(system, target), executor);
+    }
+
+    /**
+     * Gets the {@link PrimitiveBinding} which this binding always handles the given {@link InjectionTarget} with, so that
+     * its value may be written to a primitive field without boxing. By default, this returns null.
+     *
+     * @param system The {@link JTypeSystem} to use for type logic
+     * @param target The injection target
+     * @return The {@link PrimitiveBinding} which handles the given target, or null if there is none
+     */
+    default PrimitiveBinding primitive(JTypeSystem system, InjectionTarget target) {
+        return null;
+    }
+
 }
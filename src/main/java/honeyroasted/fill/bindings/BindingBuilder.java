@@ -7,8 +7,12 @@ import honeyroasted.fill.InjectorBuilder;
 import honeyroasted.fill.reflect.ReflectionInjectorBuilder;
 import honeyroasted.jype.system.JTypeSystem;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -18,6 +22,7 @@ import java.util.function.Supplier;
 public class BindingBuilder<B extends InjectorBuilder<B, I>, I extends Injector<I, B>> {
     private Matcher matcher;
     private B builder;
+    private Scope scope = Scope.UNSCOPED;
 
     /**
      * Creates a new {@link BindingBuilder}
@@ -30,6 +35,17 @@ public class BindingBuilder<B extends InjectorBuilder<B, I>, I extends Injector<
         this.builder = builder;
     }
 
+    /**
+     * Sets the {@link Scope} of the binding built by this builder. By default, it is set to {@link Scope#UNSCOPED}.
+     *
+     * @param scope The scope
+     * @return This, for method chaining
+     */
+    public BindingBuilder<B, I> in(Scope scope) {
+        this.scope = scope;
+        return this;
+    }
+
     /**
      * Creates a binding with the given instance and adds it to the parent builder
      *
@@ -37,7 +53,7 @@ public class BindingBuilder<B extends InjectorBuilder<B, I>, I extends Injector<
      * @return The parent builder, for method chaining
      */
     public B toInstance(Object instance) {
-        return this.builder.bind(this.matcher.toInstance(instance));
+        return this.builder.bind(this.scope.apply(this.matcher.toInstance(instance)));
     }
 
     /**
@@ -47,7 +63,7 @@ public class BindingBuilder<B extends InjectorBuilder<B, I>, I extends Injector<
      * @return The parent builder, for method chaining
      */
     public B toProvider(Supplier<Object> provider) {
-        return this.builder.bind(this.matcher.toProvider(provider));
+        return this.builder.bind(this.scope.apply(this.matcher.toProvider(provider)));
     }
 
     /**
@@ -57,7 +73,7 @@ public class BindingBuilder<B extends InjectorBuilder<B, I>, I extends Injector<
      * @return The parent builder, for method chaining
      */
     public B toFactory(Function<InjectionTarget, Object> factory) {
-        return this.builder.bind(this.matcher.toFactory(factory));
+        return this.builder.bind(this.scope.apply(this.matcher.toFactory(factory)));
     }
 
     /**
@@ -67,6 +83,86 @@ public class BindingBuilder<B extends InjectorBuilder<B, I>, I extends Injector<
      * @return The parent builder, for method chaining
      */
     public B to(BiFunction<InjectionTarget, JTypeSystem, InjectionResult> factory) {
-        return this.builder.bind(this.matcher.to(factory));
+        return this.builder.bind(this.scope.apply(this.matcher.to(factory)));
+    }
+
+    /**
+     * Creates an asynchronous binding with the given factory and adds it to the parent builder
+     *
+     * @param factory The asynchronous factory to use
+     * @return The parent builder, for method chaining
+     */
+    public B toAsync(BiFunction<InjectionTarget, JTypeSystem, ? extends CompletableFuture<InjectionResult>> factory) {
+        return this.builder.bind(this.scope.apply(this.matcher.toAsync(factory)));
+    }
+
+    /**
+     * Creates an asynchronous binding with the given provider and adds it to the parent builder
+     *
+     * @param provider The provider of future values to use
+     * @return The parent builder, for method chaining
+     */
+    public B toAsyncProvider(Supplier<? extends CompletableFuture<?>> provider) {
+        return this.builder.bind(this.scope.apply(this.matcher.toAsyncProvider(provider)));
+    }
+
+    /**
+     * Creates a primitive binding with the given {@code int} and adds it to the parent builder
+     *
+     * @param value The value to use
+     * @return The parent builder, for method chaining
+     */
+    public B toIntInstance(int value) {
+        return this.builder.bind(this.scope.apply(this.matcher.toIntInstance(value)));
+    }
+
+    /**
+     * Creates a primitive binding with the given provider and adds it to the parent builder
+     *
+     * @param provider The provider to use
+     * @return The parent builder, for method chaining
+     */
+    public B toIntProvider(IntSupplier provider) {
+        return this.builder.bind(this.scope.apply(this.matcher.toIntProvider(provider)));
+    }
+
+    /**
+     * Creates a primitive binding with the given {@code long} and adds it to the parent builder
+     *
+     * @param value The value to use
+     * @return The parent builder, for method chaining
+     */
+    public B toLongInstance(long value) {
+        return this.builder.bind(this.scope.apply(this.matcher.toLongInstance(value)));
+    }
+
+    /**
+     * Creates a primitive binding with the given provider and adds it to the parent builder
+     *
+     * @param provider The provider to use
+     * @return The parent builder, for method chaining
+     */
+    public B toLongProvider(LongSupplier provider) {
+        return this.builder.bind(this.scope.apply(this.matcher.toLongProvider(provider)));
+    }
+
+    /**
+     * Creates a primitive binding with the given {@code double} and adds it to the parent builder
+     *
+     * @param value The value to use
+     * @return The parent builder, for method chaining
+     */
+    public B toDoubleInstance(double value) {
+        return this.builder.bind(this.scope.apply(this.matcher.toDoubleInstance(value)));
+    }
+
+    /**
+     * Creates a primitive binding with the given provider and adds it to the parent builder
+     *
+     * @param provider The provider to use
+     * @return The parent builder, for method chaining
+     */
+    public B toDoubleProvider(DoubleSupplier provider) {
+        return this.builder.bind(this.scope.apply(this.matcher.toDoubleProvider(provider)));
     }
 }
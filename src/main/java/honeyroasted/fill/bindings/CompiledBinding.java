@@ -0,0 +1,150 @@
+package honeyroasted.fill.bindings;
+
+import honeyroasted.fill.InjectionException;
+import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.jfr.ResolveEvent;
+import honeyroasted.jype.system.JTypeSystem;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An implementation of {@link SequenceBinding} which compiles the handling of each set of claimants into a single
+ * {@link MethodHandle} chain. The claimants of a target are resolved and memoized as in a {@link SequenceBinding}, so
+ * claim tests are not repeated, and the chain for those claimants calls each of them in turn, falling through on
+ * {@link InjectionResult.Type#IGNORE} results. Each chain is held as a constant of a hidden class, so the JIT may fold
+ * and inline the already resolved decision, and claimant sets with the same bindings share a chain.
+ * <p>
+ * Targets which were not derived from an element are not memoized, and are handled as in a {@link SequenceBinding}.
+ * Claiming, primitive and asynchronous resolution also behave as in a {@link SequenceBinding}.
+ */
+public class CompiledBinding extends SequenceBinding {
+    private static final int CHAIN_LENGTH = 8;
+
+    private static final MethodType HANDLE = MethodType.methodType(InjectionResult.class, JTypeSystem.class, InjectionTarget.class);
+
+    private static final MethodHandle BINDING_HANDLE;
+    private static final MethodHandle IGNORED;
+    private static final MethodHandle CHECKED;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            BINDING_HANDLE = lookup.findVirtual(Binding.class, "handle", HANDLE);
+            IGNORED = lookup.findStatic(CompiledBinding.class, "ignored", MethodType.methodType(boolean.class, InjectionResult.class));
+            CHECKED = lookup.findStatic(CompiledBinding.class, "checked", MethodType.methodType(InjectionResult.class, InjectionResult.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    //Memoized claimant arrays are shared by every target with the same claimants, so dispatchers are found by identity
+    private final Map<Binding[], Dispatcher> dispatchers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link CompiledBinding} with the given bindings
+     *
+     * @param bindings The bindings
+     * @return A new {@link CompiledBinding}
+     */
+    public static CompiledBinding of(Binding... bindings) {
+        return new CompiledBinding(List.of(bindings));
+    }
+
+    /**
+     * Creates a new {@link CompiledBinding}
+     *
+     * @param bindings The bindings
+     */
+    public CompiledBinding(List<Binding> bindings) {
+        super(bindings);
+    }
+
+    @Override
+    public InjectionResult handle(JTypeSystem system, InjectionTarget target) {
+        if (owner(target) == null || ResolveEvent.recording()) {
+            //Compiled chains do not report their claimant, so recorded resolutions are handled in sequence
+            return super.handle(system, target);
+        }
+
+        Binding[] claimants = claimants(system, target);
+        Dispatcher dispatcher = this.dispatchers.get(claimants);
+        if (dispatcher == null) {
+            dispatcher = this.dispatchers.computeIfAbsent(claimants, k -> dispatcher(chain(List.of(k), 0, k.length)));
+        }
+
+        try {
+            return dispatcher.handle(system, target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InjectionException("Failed to handle target " + target, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledBinding" + bindings();
+    }
+
+    //Long claimant lists are split in half, so the nesting of the chain grows logarithmically with their length
+    private static MethodHandle chain(List<Binding> claimants, int from, int to) {
+        if (to - from > CHAIN_LENGTH) {
+            int middle = (from + to) >>> 1;
+            return fallThrough(chain(claimants, from, middle), chain(claimants, middle, to));
+        }
+
+        MethodHandle chain = MethodHandles.dropArguments(MethodHandles.constant(InjectionResult.class, InjectionResult.ignore()),
+                0, JTypeSystem.class, InjectionTarget.class);
+        for (int i = to - 1; i >= from; i--) {
+            chain = fallThrough(BINDING_HANDLE.bindTo(claimants.get(i)), chain);
+        }
+        return chain;
+    }
+
+    //(system, target) -> ignored(first(system, target)) ? rest(system, target) : checked(first(system, target))
+    private static MethodHandle fallThrough(MethodHandle first, MethodHandle rest) {
+        MethodHandle next = MethodHandles.guardWithTest(
+                IGNORED,
+                MethodHandles.dropArguments(rest, 0, InjectionResult.class),
+                MethodHandles.dropArguments(CHECKED, 1, JTypeSystem.class, InjectionTarget.class));
+        return MethodHandles.foldArguments(next, first);
+    }
+
+    private static boolean ignored(InjectionResult result) {
+        return result.type() == InjectionResult.Type.IGNORE;
+    }
+
+    private static InjectionResult checked(InjectionResult result) {
+        if (result.type() == InjectionResult.Type.ERROR) {
+            throw new InjectionException(String.valueOf(result.value()));
+        }
+        return result;
+    }
+
+    //Defines a copy of CompiledDispatcher as a hidden class holding the chain as a static constant, so the JIT can fold it
+    private static Dispatcher dispatcher(MethodHandle chain) {
+        try (InputStream stream = CompiledBinding.class.getResourceAsStream("CompiledDispatcher.class")) {
+            if (stream != null) {
+                Class<?> type = MethodHandles.lookup().defineHiddenClassWithClassData(stream.readAllBytes(), chain, true).lookupClass();
+                return (Dispatcher) type.getDeclaredConstructor().newInstance();
+            }
+        } catch (IOException | ReflectiveOperationException | LinkageError e) {
+            //Fall back to invoking the chain directly
+        }
+        return (system, target) -> (InjectionResult) chain.invokeExact(system, target);
+    }
+
+    //Invokes a compiled chain
+    interface Dispatcher {
+        InjectionResult handle(JTypeSystem system, InjectionTarget target) throws Throwable;
+    }
+
+}
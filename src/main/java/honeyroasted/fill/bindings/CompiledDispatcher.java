@@ -0,0 +1,32 @@
+package honeyroasted.fill.bindings;
+
+import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.jype.system.JTypeSystem;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * The template of the hidden classes defined by {@link CompiledBinding}. Each hidden class is given its compiled chain
+ * as class data, and holds it in a static final field, which the JIT treats as a constant. This class itself is never
+ * instantiated.
+ */
+final class CompiledDispatcher implements CompiledBinding.Dispatcher {
+    private static final MethodHandle CHAIN;
+
+    static {
+        try {
+            CHAIN = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Override
+    public InjectionResult handle(JTypeSystem system, InjectionTarget target) throws Throwable {
+        return (InjectionResult) CHAIN.invokeExact(system, target);
+    }
+
+}
@@ -0,0 +1,19 @@
+package honeyroasted.fill.bindings;
+
+/**
+ * A {@link Binding} which claims the same targets as another binding, and handles them by delegating to it, such as a
+ * {@link ScopedBinding} or a metered binding. Bindings which dispatch by claim, such as {@link IndexedBinding}, may
+ * inspect the wrapped binding instead of the wrapper.
+ * <p>
+ * A delegating binding may change how and when the wrapped binding is called, so it does not expose the
+ * {@link #primitive(honeyroasted.jype.system.JTypeSystem, honeyroasted.fill.InjectionTarget) primitive binding} of the
+ * wrapped binding unless it overrides that method itself.
+ */
+public interface DelegatingBinding extends Binding {
+
+    /**
+     * @return The wrapped binding
+     */
+    Binding binding();
+
+}
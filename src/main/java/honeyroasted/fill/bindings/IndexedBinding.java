@@ -0,0 +1,226 @@
+package honeyroasted.fill.bindings;
+
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.jype.system.JTypeSystem;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+/**
+ * A {@link SequenceBinding} which buckets its children by the {@link NameMatcher}, {@link AnnotationMatcher} or
+ * {@link TypeMatcher} of their claim test, so that only the children which may claim a given target are tested. The
+ * children of an {@link AndMatcher} are bucketed by their most selective indexable operand. Children which cannot be
+ * indexed, such as bindings with arbitrary matchers, are always tested. Children are still applied in their original
+ * order. Children which are {@link DelegatingBinding}s, such as scoped and metered bindings, are indexed by the binding
+ * they wrap.
+ */
+public class IndexedBinding extends SequenceBinding {
+    private static final List<Class<?>> PRIMITIVE_WIDENING = List.of(byte.class, short.class, int.class, long.class, float.class, double.class);
+
+    private final Map<String, int[]> byName = new HashMap<>();
+    private final Map<Class<?>, int[]> byAnnotation = new HashMap<>();
+    private final Map<Class<?>, int[]> byType = new HashMap<>();
+    private final int[] unindexed;
+
+    /**
+     * Creates a new {@link IndexedBinding} with the given bindings
+     *
+     * @param bindings The bindings
+     * @return A new {@link IndexedBinding}
+     */
+    public static IndexedBinding of(Binding... bindings) {
+        return new IndexedBinding(Arrays.asList(bindings));
+    }
+
+    /**
+     * Creates a new {@link IndexedBinding}
+     *
+     * @param bindings The bindings
+     */
+    public IndexedBinding(List<Binding> bindings) {
+        super(bindings);
+
+        Map<String, List<Integer>> byName = new HashMap<>();
+        Map<Class<?>, List<Integer>> byAnnotation = new HashMap<>();
+        Map<Class<?>, List<Integer>> byType = new HashMap<>();
+        List<Integer> unindexed = new ArrayList<>();
+
+        List<Binding> children = bindings();
+        for (int i = 0; i < children.size(); i++) {
+            Binding child = children.get(i);
+            while (child instanceof DelegatingBinding delegating) {
+                child = delegating.binding();
+            }
+            Matcher key = child instanceof SimpleBinding simple ? indexKey(simple.claimTest()) : null;
+
+            if (key instanceof NameMatcher name) {
+                byName.computeIfAbsent(name.name(), k -> new ArrayList<>()).add(i);
+            } else if (key instanceof AnnotationMatcher annotation) {
+                byAnnotation.computeIfAbsent(annotation.annotationType(), k -> new ArrayList<>()).add(i);
+            } else if (key instanceof TypeMatcher type) {
+                for (Class<?> target : type.exact() ? Set.of(type.rawType()) : assignableTargets(type.rawType())) {
+                    byType.computeIfAbsent(target, k -> new ArrayList<>()).add(i);
+                }
+            } else {
+                unindexed.add(i);
+            }
+        }
+
+        byName.forEach((k, v) -> this.byName.put(k, toArray(v)));
+        byAnnotation.forEach((k, v) -> this.byAnnotation.put(k, toArray(v)));
+        byType.forEach((k, v) -> this.byType.put(k, toArray(v)));
+        this.unindexed = toArray(unindexed);
+    }
+
+    @Override
+    protected Binding[] resolve(JTypeSystem system, InjectionTarget target) {
+        if (target.rawType() == null || !indexable(target)) {
+            return super.resolve(system, target);
+        }
+
+        List<Class<? extends Annotation>> annotationTypes = target.annotationTypes();
+        int[][] buckets = new int[4 + annotationTypes.size()][];
+        int count = 0;
+        buckets[count++] = this.unindexed;
+        buckets[count++] = this.byType.get(target.rawType());
+        buckets[count++] = this.byName.get(target.name());
+        if (target.injectName() != null) {
+            buckets[count++] = this.byName.get(target.injectName());
+        }
+        for (Class<? extends Annotation> annotationType : annotationTypes) {
+            buckets[count++] = this.byAnnotation.get(annotationType);
+        }
+
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (buckets[i] != null) size += buckets[i].length;
+        }
+        int[] candidates = new int[size];
+        int index = 0;
+        for (int i = 0; i < count; i++) {
+            if (buckets[i] != null) {
+                System.arraycopy(buckets[i], 0, candidates, index, buckets[i].length);
+                index += buckets[i].length;
+            }
+        }
+        Arrays.sort(candidates);
+
+        List<Binding> children = bindings();
+        List<Binding> claimants = new ArrayList<>(1);
+        int previous = -1;
+        for (int candidate : candidates) {
+            if (candidate != previous) {
+                Binding binding = children.get(candidate);
+                if (binding.claims(system, target)) {
+                    claimants.add(binding);
+                }
+                previous = candidate;
+            }
+        }
+        return claimants.toArray(Binding[]::new);
+    }
+
+    //Targets declared with a type variable are left to a full scan, as their raw type is only an erasure
+    private static boolean indexable(InjectionTarget target) {
+        Type type = target.element() instanceof Field field ? field.getGenericType() :
+                target.element() instanceof Parameter parameter ? parameter.getParameterizedType() : target.rawType();
+        while (type instanceof GenericArrayType array) {
+            type = array.getGenericComponentType();
+        }
+        return !(type instanceof TypeVariable<?>);
+    }
+
+    private static Matcher indexKey(BiPredicate<?, ?> predicate) {
+        if (predicate instanceof NameMatcher || predicate instanceof AnnotationMatcher) {
+            return (Matcher) predicate;
+        } else if (predicate instanceof TypeMatcher type && type.rawType() != null) {
+            return type;
+        } else if (predicate instanceof AndMatcher and) {
+            Matcher left = indexKey(and.left());
+            Matcher right = indexKey(and.right());
+            return selectivity(left) >= selectivity(right) ? left : right;
+        }
+        return null;
+    }
+
+    private static int selectivity(Matcher key) {
+        if (key instanceof NameMatcher) {
+            return 3;
+        } else if (key instanceof AnnotationMatcher) {
+            return 2;
+        } else if (key instanceof TypeMatcher) {
+            return 1;
+        }
+        return 0;
+    }
+
+    //The raw types of every target a value of the given type may be assigned to in a loose invocation context
+    private static Set<Class<?>> assignableTargets(Class<?> type) {
+        Set<Class<?>> targets = new LinkedHashSet<>();
+        if (type.isPrimitive()) {
+            addWidenings(type, targets);
+            addSupertypes(MethodType.methodType(type).wrap().returnType(), targets);
+        } else {
+            addSupertypes(type, targets);
+            Class<?> unboxed = MethodType.methodType(type).unwrap().returnType();
+            if (unboxed != type) {
+                addWidenings(unboxed, targets);
+            }
+        }
+        return targets;
+    }
+
+    private static void addWidenings(Class<?> primitive, Set<Class<?>> targets) {
+        targets.add(primitive);
+        int index = PRIMITIVE_WIDENING.indexOf(primitive);
+        if (primitive == char.class) {
+            index = PRIMITIVE_WIDENING.indexOf(short.class);
+        }
+
+        if (index >= 0) {
+            targets.addAll(PRIMITIVE_WIDENING.subList(index + 1, PRIMITIVE_WIDENING.size()));
+        }
+    }
+
+    private static void addSupertypes(Class<?> type, Set<Class<?>> targets) {
+        if (type == null || !targets.add(type)) return;
+
+        if (type.isArray()) {
+            targets.add(Object.class);
+            targets.add(Cloneable.class);
+            targets.add(java.io.Serializable.class);
+            if (!type.getComponentType().isPrimitive()) {
+                Set<Class<?>> components = new LinkedHashSet<>();
+                addSupertypes(type.getComponentType(), components);
+                for (Class<?> component : components) {
+                    targets.add(Array.newInstance(component, 0).getClass());
+                }
+            }
+        } else {
+            addSupertypes(type.getSuperclass(), targets);
+            for (Class<?> inter : type.getInterfaces()) {
+                addSupertypes(inter, targets);
+            }
+            targets.add(Object.class);
+        }
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        return list.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+}
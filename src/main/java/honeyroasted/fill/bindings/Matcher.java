@@ -4,9 +4,13 @@ import honeyroasted.fill.InjectionResult;
 import honeyroasted.fill.InjectionTarget;
 import honeyroasted.jype.system.JTypeSystem;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -27,13 +31,15 @@ public interface Matcher extends BiPredicate<InjectionTarget, JTypeSystem> {
 
     /**
      * Creates a {@link Binding} from this matcher which claims all {@link InjectionTarget}s this matcher matches,
-     * and which handles injections by injecting the given object
+     * and which handles injections by injecting the given object. The result is created once and shared by every
+     * injection.
      *
      * @param instance The object to inject
      * @return A new {@link Binding}
      */
     default Binding toInstance(Object instance) {
-        return new SimpleBinding(this, (target, system) -> InjectionResult.of(instance));
+        InjectionResult result = InjectionResult.of(instance);
+        return new SimpleBinding(this, (target, system) -> result);
     }
 
     /**
@@ -58,19 +64,110 @@ public interface Matcher extends BiPredicate<InjectionTarget, JTypeSystem> {
         return new SimpleBinding(this, (target, system) -> InjectionResult.of(factory.apply(target)));
     }
 
+    /**
+     * Creates an {@link AsyncBinding} from this matcher which claims all {@link InjectionTarget}s this matcher matches,
+     * and which handles injections using the given asynchronous function
+     *
+     * @param factory The asynchronous injection function
+     * @return A new {@link Binding}
+     */
+    default Binding toAsync(BiFunction<InjectionTarget, JTypeSystem, ? extends CompletableFuture<InjectionResult>> factory) {
+        return new AsyncBinding(this, factory);
+    }
+
+    /**
+     * Creates an {@link AsyncBinding} from this matcher which claims all {@link InjectionTarget}s this matcher matches,
+     * and which handles injections by injecting the value the future returned by the given supplier completes with
+     *
+     * @param provider The supplier to generate the future injection value
+     * @return A new {@link Binding}
+     */
+    default Binding toAsyncProvider(Supplier<? extends CompletableFuture<?>> provider) {
+        return new AsyncBinding(this, (target, system) -> {
+            CompletableFuture<?> future = provider.get();
+            return AsyncBinding.cancelling(future.thenApply(InjectionResult::of), future);
+        });
+    }
+
+    /**
+     * Creates a {@link PrimitiveBinding} from this matcher which claims all {@link InjectionTarget}s this matcher
+     * matches, and which handles injections by injecting the given {@code int}
+     *
+     * @param value The value to inject
+     * @return A new {@link Binding}
+     */
+    default Binding toIntInstance(int value) {
+        return PrimitiveBinding.ofInt(this, () -> value);
+    }
+
+    /**
+     * Creates a {@link PrimitiveBinding} from this matcher which claims all {@link InjectionTarget}s this matcher
+     * matches, and which handles injections by injecting the result of the given supplier
+     *
+     * @param provider The supplier to generate the injection value
+     * @return A new {@link Binding}
+     */
+    default Binding toIntProvider(IntSupplier provider) {
+        return PrimitiveBinding.ofInt(this, provider);
+    }
+
+    /**
+     * Creates a {@link PrimitiveBinding} from this matcher which claims all {@link InjectionTarget}s this matcher
+     * matches, and which handles injections by injecting the given {@code long}
+     *
+     * @param value The value to inject
+     * @return A new {@link Binding}
+     */
+    default Binding toLongInstance(long value) {
+        return PrimitiveBinding.ofLong(this, () -> value);
+    }
+
+    /**
+     * Creates a {@link PrimitiveBinding} from this matcher which claims all {@link InjectionTarget}s this matcher
+     * matches, and which handles injections by injecting the result of the given supplier
+     *
+     * @param provider The supplier to generate the injection value
+     * @return A new {@link Binding}
+     */
+    default Binding toLongProvider(LongSupplier provider) {
+        return PrimitiveBinding.ofLong(this, provider);
+    }
+
+    /**
+     * Creates a {@link PrimitiveBinding} from this matcher which claims all {@link InjectionTarget}s this matcher
+     * matches, and which handles injections by injecting the given {@code double}
+     *
+     * @param value The value to inject
+     * @return A new {@link Binding}
+     */
+    default Binding toDoubleInstance(double value) {
+        return PrimitiveBinding.ofDouble(this, () -> value);
+    }
+
+    /**
+     * Creates a {@link PrimitiveBinding} from this matcher which claims all {@link InjectionTarget}s this matcher
+     * matches, and which handles injections by injecting the result of the given supplier
+     *
+     * @param provider The supplier to generate the injection value
+     * @return A new {@link Binding}
+     */
+    default Binding toDoubleProvider(DoubleSupplier provider) {
+        return PrimitiveBinding.ofDouble(this, provider);
+    }
+
     @Override
     default Matcher and(BiPredicate<? super InjectionTarget, ? super JTypeSystem> other) {
-        return (target, system) -> test(target, system) && other.test(target, system);
+        return new AndMatcher(this, other);
     }
 
     @Override
     default Matcher or(BiPredicate<? super InjectionTarget, ? super JTypeSystem> other) {
-        return (target, system) -> test(target, system) || other.test(target, system);
+        return new OrMatcher(this, other);
     }
 
     @Override
     default Matcher negate() {
-        return (target, system) -> !test(target, system);
+        return new NotMatcher(this);
     }
 
 }
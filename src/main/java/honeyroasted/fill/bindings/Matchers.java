@@ -1,8 +1,6 @@
 package honeyroasted.fill.bindings;
 
-import honeyroasted.fill.Inject;
 import honeyroasted.jype.system.resolver.reflection.JTypeToken;
-import honeyroasted.jype.system.solver.constraints.JTypeConstraints;
 import honeyroasted.jype.type.JType;
 
 import java.lang.annotation.Annotation;
@@ -20,7 +18,7 @@ public interface Matchers {
      * @return A new {@link Matcher}
      */
     static Matcher name(String name) {
-        return (target, system) -> target.name().equals(name) || (target.has(Inject.class) && target.get(Inject.class).value().equals(name));
+        return new NameMatcher(name);
     }
 
     /**
@@ -30,7 +28,7 @@ public interface Matchers {
      * @return A new {@link Matcher}
      */
     static Matcher annotation(Class<? extends Annotation> type) {
-        return (target, system) -> target.has(type);
+        return new AnnotationMatcher(type);
     }
 
     /**
@@ -42,7 +40,7 @@ public interface Matchers {
      * @return A new {@link Matcher}
      */
     static Matcher type(Type type) {
-        return (target, system) -> system.operations().isCompatible(system.tryResolve(type), target.type(), JTypeConstraints.Compatible.Context.LOOSE_INVOCATION);
+        return new TypeMatcher(type, false);
     }
 
     /**
@@ -54,7 +52,7 @@ public interface Matchers {
      * @return A new {@link Matcher}
      */
     static Matcher exactType(Type type) {
-        return (target, system) -> target.type().typeEquals(system.tryResolve(type));
+        return new TypeMatcher(type, true);
     }
 
     /**
@@ -66,7 +64,7 @@ public interface Matchers {
      * @return A new {@link Matcher}
      */
     static Matcher type(JType type) {
-        return (target, system) -> system.operations().isCompatible(type, target.type(), JTypeConstraints.Compatible.Context.LOOSE_INVOCATION);
+        return new TypeMatcher(type, false);
     }
 
     /**
@@ -78,7 +76,7 @@ public interface Matchers {
      * @return A new {@link Matcher}
      */
     static Matcher exactType(JType type) {
-        return (target, system) -> target.type().typeEquals(type);
+        return new TypeMatcher(type, true);
     }
 
     /**
@@ -90,7 +88,7 @@ public interface Matchers {
      * @return A new {@link Matcher}
      */
     static Matcher type(JTypeToken<?> token) {
-        return (target, system) -> system.operations().isCompatible(token.resolve(system), target.type(), JTypeConstraints.Compatible.Context.LOOSE_INVOCATION);
+        return new TypeMatcher(token, false);
     }
 
     /**
@@ -102,7 +100,7 @@ public interface Matchers {
      * @return A new {@link Matcher}
      */
     static Matcher exactType(JTypeToken<?> token) {
-        return (target, system) -> target.type().typeEquals(token.resolve(system));
+        return new TypeMatcher(token, true);
     }
 
 
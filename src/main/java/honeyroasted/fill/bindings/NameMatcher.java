@@ -0,0 +1,20 @@
+package honeyroasted.fill.bindings;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.jype.system.JTypeSystem;
+
+/**
+ * A {@link Matcher} that matches {@link InjectionTarget}s by their names, or by the name given in their {@link Inject}
+ * annotation
+ *
+ * @param name The name to match
+ */
+public record NameMatcher(String name) implements Matcher {
+
+    @Override
+    public boolean test(InjectionTarget target, JTypeSystem system) {
+        return this.name.equals(target.name()) || this.name.equals(target.injectName());
+    }
+
+}
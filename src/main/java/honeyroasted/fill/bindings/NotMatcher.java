@@ -0,0 +1,20 @@
+package honeyroasted.fill.bindings;
+
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.jype.system.JTypeSystem;
+
+import java.util.function.BiPredicate;
+
+/**
+ * A {@link Matcher} that matches {@link InjectionTarget}s not matched by another predicate
+ *
+ * @param predicate The negated predicate
+ */
+public record NotMatcher(BiPredicate<? super InjectionTarget, ? super JTypeSystem> predicate) implements Matcher {
+
+    @Override
+    public boolean test(InjectionTarget target, JTypeSystem system) {
+        return !this.predicate.test(target, system);
+    }
+
+}
@@ -0,0 +1,22 @@
+package honeyroasted.fill.bindings;
+
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.jype.system.JTypeSystem;
+
+import java.util.function.BiPredicate;
+
+/**
+ * A {@link Matcher} that matches {@link InjectionTarget}s matched by either of two other predicates
+ *
+ * @param left  The first predicate, which is tested first
+ * @param right The second predicate
+ */
+public record OrMatcher(BiPredicate<? super InjectionTarget, ? super JTypeSystem> left,
+                        BiPredicate<? super InjectionTarget, ? super JTypeSystem> right) implements Matcher {
+
+    @Override
+    public boolean test(InjectionTarget target, JTypeSystem system) {
+        return this.left.test(target, system) || this.right.test(target, system);
+    }
+
+}
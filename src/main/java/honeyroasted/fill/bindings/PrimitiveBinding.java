@@ -0,0 +1,121 @@
+package honeyroasted.fill.bindings;
+
+import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.jype.system.JTypeSystem;
+
+import java.util.function.BiPredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * An implementation of {@link SimpleBinding} which produces {@code int}, {@code long} or {@code double} values. When
+ * such a binding handles a primitive field of its type, or of a type its values widen to, an injector may read its
+ * value with {@link #getInt()}, {@link #getLong()} or {@link #getDouble()} and write it to the field without boxing.
+ * Otherwise, it handles targets with boxed values like any other binding. Fields are only written without boxing while
+ * neither {@link honeyroasted.fill.jfr.ResolveEvent} nor {@link honeyroasted.fill.jfr.ProviderEvent} is being recorded,
+ * so that recordings see every resolution. A primitive binding always produces a value, and never ignores a target it
+ * claims.
+ */
+public class PrimitiveBinding extends SimpleBinding {
+    private final Class<?> type;
+    private final IntSupplier ints;
+    private final LongSupplier longs;
+    private final DoubleSupplier doubles;
+
+    private PrimitiveBinding(BiPredicate<InjectionTarget, JTypeSystem> claimTest, Class<?> type, IntSupplier ints, LongSupplier longs, DoubleSupplier doubles) {
+        super(claimTest, (target, system) -> InjectionResult.of(ints != null ? (Object) ints.getAsInt() : longs != null ? (Object) longs.getAsLong() : (Object) doubles.getAsDouble()));
+        this.type = type;
+        this.ints = ints;
+        this.longs = longs;
+        this.doubles = doubles;
+    }
+
+    /**
+     * Creates a new {@link PrimitiveBinding} which produces {@code int} values
+     *
+     * @param claimTest The claim predicate
+     * @param provider  The provider of values
+     * @return A new {@link PrimitiveBinding}
+     */
+    public static PrimitiveBinding ofInt(BiPredicate<InjectionTarget, JTypeSystem> claimTest, IntSupplier provider) {
+        return new PrimitiveBinding(claimTest, int.class, provider, null, null);
+    }
+
+    /**
+     * Creates a new {@link PrimitiveBinding} which produces {@code long} values
+     *
+     * @param claimTest The claim predicate
+     * @param provider  The provider of values
+     * @return A new {@link PrimitiveBinding}
+     */
+    public static PrimitiveBinding ofLong(BiPredicate<InjectionTarget, JTypeSystem> claimTest, LongSupplier provider) {
+        return new PrimitiveBinding(claimTest, long.class, null, provider, null);
+    }
+
+    /**
+     * Creates a new {@link PrimitiveBinding} which produces {@code double} values
+     *
+     * @param claimTest The claim predicate
+     * @param provider  The provider of values
+     * @return A new {@link PrimitiveBinding}
+     */
+    public static PrimitiveBinding ofDouble(BiPredicate<InjectionTarget, JTypeSystem> claimTest, DoubleSupplier provider) {
+        return new PrimitiveBinding(claimTest, double.class, null, null, provider);
+    }
+
+    /**
+     * @return The primitive type of the values of this binding, which is {@code int}, {@code long} or {@code double}
+     */
+    public Class<?> type() {
+        return this.type;
+    }
+
+    /**
+     * Checks whether the values of this binding can be written to a field of the given type without boxing, which is
+     * true if the given type is the type of this binding or a type it widens to
+     *
+     * @param fieldType The field type
+     * @return True if the values of this binding can be written to a field of the given type
+     */
+    public boolean writes(Class<?> fieldType) {
+        if (fieldType == double.class) {
+            return true;
+        } else if (fieldType == long.class) {
+            return this.type != double.class;
+        }
+        return fieldType == int.class && this.type == int.class;
+    }
+
+    /**
+     * @return The next value of this binding, which must be an {@code int} binding
+     */
+    public int getInt() {
+        return this.ints.getAsInt();
+    }
+
+    /**
+     * @return The next value of this binding, widened to a {@code long}. This binding must not be a {@code double} binding.
+     */
+    public long getLong() {
+        return this.ints != null ? this.ints.getAsInt() : this.longs.getAsLong();
+    }
+
+    /**
+     * @return The next value of this binding, widened to a {@code double}
+     */
+    public double getDouble() {
+        return this.ints != null ? this.ints.getAsInt() : this.longs != null ? this.longs.getAsLong() : this.doubles.getAsDouble();
+    }
+
+    @Override
+    public PrimitiveBinding primitive(JTypeSystem system, InjectionTarget target) {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "PrimitiveBinding[" + this.type + ", " + claimTest() + "]";
+    }
+}
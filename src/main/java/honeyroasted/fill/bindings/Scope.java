@@ -0,0 +1,42 @@
+package honeyroasted.fill.bindings;
+
+import honeyroasted.fill.InjectionSession;
+
+/**
+ * A scope, which controls how long the values produced by a {@link Binding} are reused. Scoped bindings only reuse
+ * values they {@link honeyroasted.fill.InjectionResult.Type#SET}, and reuse them for every target they claim.
+ */
+public interface Scope {
+
+    /**
+     * A scope which does not reuse values, so the binding is handled on every injection
+     */
+    Scope UNSCOPED = binding -> binding;
+
+    /**
+     * A scope which reuses the first value for the lifetime of the binding. The value is created at most once, and once
+     * created is read without locking.
+     */
+    Scope SINGLETON = SingletonBinding::new;
+
+    /**
+     * A scope which reuses the first value on each thread for the lifetime of the binding
+     */
+    Scope THREAD = ThreadBinding::new;
+
+    /**
+     * A scope which reuses the first value within each {@link InjectionSession}, such as a single
+     * {@link honeyroasted.fill.Injector#createAndInject(Class)} call. Outside a session, the binding is handled on every
+     * injection.
+     */
+    Scope SESSION = SessionBinding::new;
+
+    /**
+     * Applies this scope to the given binding
+     *
+     * @param binding The binding
+     * @return A binding which claims the same targets, and reuses the values of the given binding according to this scope
+     */
+    Binding apply(Binding binding);
+
+}
@@ -0,0 +1,37 @@
+package honeyroasted.fill.bindings;
+
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.jype.system.JTypeSystem;
+
+/**
+ * A {@link Binding} which claims the same targets as another binding, and reuses the values it produces according to a
+ * {@link Scope}
+ */
+public abstract class ScopedBinding implements DelegatingBinding {
+    private final Binding binding;
+
+    /**
+     * Creates a new {@link ScopedBinding}
+     *
+     * @param binding The scoped binding
+     */
+    protected ScopedBinding(Binding binding) {
+        this.binding = binding;
+    }
+
+    @Override
+    public Binding binding() {
+        return this.binding;
+    }
+
+    @Override
+    public boolean claims(JTypeSystem system, InjectionTarget target) {
+        return this.binding.claims(system, target);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + this.binding + "]";
+    }
+
+}
@@ -3,18 +3,55 @@ package honeyroasted.fill.bindings;
 import honeyroasted.fill.InjectionException;
 import honeyroasted.fill.InjectionResult;
 import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.jfr.ResolveEvent;
 import honeyroasted.jype.system.JTypeSystem;
 
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * An implementation of {@link Binding} which contains a list of other bindings and applies the first one which
- * claims a given target
+ * claims a given target.
+ * <p>
+ * The bindings which claim a target are memoized per {@link InjectionTarget#element()}, raw type and {@link JTypeSystem},
+ * including targets which no binding claims, so the bindings in a {@link SequenceBinding} are expected to claim
+ * targets consistently. Memoized results are keyed through the declaring class of the element, and do not prevent it
+ * from being unloaded. The declaring class only refers to memoized claimants weakly, so it does not keep this binding,
+ * or anything its children refer to, reachable either. Each distinct set of claimants is held once by this binding. {@link InjectionTarget#interned() Interned} targets, produced by
+ * {@link InjectionTarget#of(JTypeSystem, Field)} and {@link InjectionTarget#of(JTypeSystem, Parameter)}, are also
+ * memoized by identity, so they are resolved without allocating a key. Other targets are never held by identity.
  */
 public class SequenceBinding implements Binding {
+    private static final Binding[] NO_CLAIMANTS = new Binding[0];
+
     private List<Binding> bindings;
 
+    private final Map<List<Binding>, ClaimantSet> claimantSets = new ConcurrentHashMap<>();
+
+    private final ClassValue<Map<ResolutionKey, Reference<Binding[]>>> resolutions = new ClassValue<>() {
+        @Override
+        protected Map<ResolutionKey, Reference<Binding[]>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final ClassValue<Map<InjectionTarget, Resolution>> targetResolutions = new ClassValue<>() {
+        @Override
+        protected Map<InjectionTarget, Resolution> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     /**
      * Creates a new {@link SequenceBinding} with the given bindings
      *
@@ -31,7 +68,7 @@ public class SequenceBinding implements Binding {
      * @param bindings The bindings
      */
     public SequenceBinding(List<Binding> bindings) {
-        this.bindings = bindings;
+        this.bindings = List.copyOf(bindings);
     }
 
     /**
@@ -42,27 +79,146 @@ public class SequenceBinding implements Binding {
         return this.bindings;
     }
 
+    /**
+     * Gets the children {@link Binding}s which claim the given target, in order. The result is memoized if the target
+     * was derived from an element, in which case the same array is returned for every target with the same claimants.
+     *
+     * @param system The {@link JTypeSystem} to use for type logic
+     * @param target The injection target
+     * @return The children {@link Binding}s which claim the given target
+     */
+    protected Binding[] claimants(JTypeSystem system, InjectionTarget target) {
+        Class<?> owner = owner(target);
+        if (owner == null) {
+            return resolve(system, target);
+        }
+
+        Map<InjectionTarget, Resolution> targetResolutions = null;
+        if (target.interned()) {
+            targetResolutions = this.targetResolutions.get(owner);
+            Resolution resolution = targetResolutions.get(target);
+            if (resolution != null && resolution.system() == system) {
+                return resolution.claimants().get();
+            }
+        }
+
+        ResolutionKey key = new ResolutionKey(system, target.element(), target.rawType());
+        Map<ResolutionKey, Reference<Binding[]>> resolutions = this.resolutions.get(owner);
+        Reference<Binding[]> claimants = resolutions.get(key);
+        if (claimants == null) {
+            claimants = this.claimantSets.computeIfAbsent(List.of(resolve(system, target)), ClaimantSet::new).reference();
+            resolutions.putIfAbsent(key, claimants);
+        }
+        if (targetResolutions != null) {
+            //Only the first system is memoized by identity, so a target used with several systems does not churn
+            targetResolutions.putIfAbsent(target, new Resolution(system, claimants));
+        }
+        return claimants.get();
+    }
+
+    //The class memoized claimants of the target are held through, or null if they are not memoized
+    static Class<?> owner(InjectionTarget target) {
+        AnnotatedElement element = target.element();
+        return element instanceof Field field ? field.getDeclaringClass() :
+                element instanceof Parameter parameter ? parameter.getDeclaringExecutable().getDeclaringClass() : null;
+    }
+
+    /**
+     * Finds the children {@link Binding}s which claim the given target, without memoization
+     *
+     * @param system The {@link JTypeSystem} to use for type logic
+     * @param target The injection target
+     * @return The children {@link Binding}s which claim the given target
+     */
+    protected Binding[] resolve(JTypeSystem system, InjectionTarget target) {
+        List<Binding> claimants = new ArrayList<>(1);
+        for (Binding binding : this.bindings) {
+            if (binding.claims(system, target)) {
+                claimants.add(binding);
+            }
+        }
+        return claimants.isEmpty() ? NO_CLAIMANTS : claimants.toArray(Binding[]::new);
+    }
+
     @Override
     public boolean claims(JTypeSystem system, InjectionTarget target) {
-        return this.bindings.stream().anyMatch(b -> b.claims(system, target));
+        return claimants(system, target).length > 0;
     }
 
     @Override
     public InjectionResult handle(JTypeSystem system, InjectionTarget target) {
         InjectionResult result = InjectionResult.ignore();
 
-        for (Binding binding : this.bindings) {
-            if (binding.claims(system, target)) {
-                result = binding.handle(system, target);
+        for (Binding binding : claimants(system, target)) {
+            result = binding.handle(system, target);
 
-                if (result.type() == InjectionResult.Type.SET) {
-                    return result;
-                } else if (result.type() == InjectionResult.Type.ERROR) {
-                    throw new InjectionException(String.valueOf(result.value()));
-                }
+            if (result.type() == InjectionResult.Type.SET) {
+                ResolveEvent.claimant(binding);
+                return result;
+            } else if (result.type() == InjectionResult.Type.ERROR) {
+                ResolveEvent.claimant(binding);
+                throw new InjectionException(String.valueOf(result.value()));
             }
         }
 
         return result;
     }
+
+    //Primitive bindings never ignore a target, so the first claimant always handles it
+    @Override
+    public PrimitiveBinding primitive(JTypeSystem system, InjectionTarget target) {
+        Binding[] claimants = claimants(system, target);
+        return claimants.length == 0 ? null : claimants[0].primitive(system, target);
+    }
+
+    @Override
+    public CompletableFuture<InjectionResult> handleAsync(JTypeSystem system, InjectionTarget target, Executor executor) {
+        CompletableFuture<InjectionResult> result = new CompletableFuture<>();
+        try {
+            handleAsync(claimants(system, target), 0, system, target, executor, result);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    //Tries each claimant in turn, moving to the next one only once the previous one has completed with IGNORE
+    private static void handleAsync(Binding[] claimants, int index, JTypeSystem system, InjectionTarget target, Executor executor,
+                                    CompletableFuture<InjectionResult> result) {
+        if (index >= claimants.length) {
+            result.complete(InjectionResult.ignore());
+            return;
+        }
+
+        CompletableFuture<InjectionResult> handled = claimants[index].handleAsync(system, target, executor);
+        AsyncBinding.cancelling(result, handled);
+        handled.whenComplete((handledResult, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else if (handledResult.type() == InjectionResult.Type.ERROR) {
+                result.completeExceptionally(new InjectionException(String.valueOf(handledResult.value())));
+            } else if (handledResult.type() == InjectionResult.Type.SET || index + 1 >= claimants.length) {
+                result.complete(handledResult);
+            } else {
+                handleAsync(claimants, index + 1, system, target, executor, result);
+            }
+        });
+    }
+
+    private record ResolutionKey(JTypeSystem system, AnnotatedElement element, Class<?> rawType) {
+    }
+
+    private record Resolution(JTypeSystem system, Reference<Binding[]> claimants) {
+    }
+
+    //Holds a set of claimants strongly, and the weak reference memoized results refer to it through
+    private record ClaimantSet(Binding[] claimants, Reference<Binding[]> reference) {
+        private ClaimantSet(List<Binding> claimants) {
+            this(claimants.toArray(Binding[]::new));
+        }
+
+        private ClaimantSet(Binding[] claimants) {
+            this(claimants, new WeakReference<>(claimants));
+        }
+    }
 }
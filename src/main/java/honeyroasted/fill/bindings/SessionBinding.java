@@ -0,0 +1,37 @@
+package honeyroasted.fill.bindings;
+
+import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.InjectionSession;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.jype.system.JTypeSystem;
+
+/**
+ * A {@link ScopedBinding} for {@link Scope#SESSION}, which stores its value in the current {@link InjectionSession}
+ */
+class SessionBinding extends ScopedBinding {
+
+    SessionBinding(Binding binding) {
+        super(binding);
+    }
+
+    @Override
+    public InjectionResult handle(JTypeSystem system, InjectionTarget target) {
+        InjectionSession session = InjectionSession.current();
+        if (session == null) {
+            return binding().handle(system, target);
+        }
+
+        //Values are memoized per binding, so only threads which need this binding's value wait for each other
+        InjectionResult[] unset = new InjectionResult[1];
+        InjectionResult result = session.computeIfAbsent(this, () -> {
+            InjectionResult handled = binding().handle(system, target);
+            if (handled.type() == InjectionResult.Type.SET) {
+                return handled;
+            }
+            unset[0] = handled;
+            return null;
+        });
+        return result != null ? result : unset[0];
+    }
+
+}
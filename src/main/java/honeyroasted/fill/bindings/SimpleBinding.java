@@ -2,6 +2,7 @@ package honeyroasted.fill.bindings;
 
 import honeyroasted.fill.InjectionResult;
 import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.jfr.ProviderEvent;
 import honeyroasted.jype.system.JTypeSystem;
 
 import java.util.function.BiFunction;
@@ -29,6 +30,13 @@ public class SimpleBinding implements Binding {
         this.result = result;
     }
 
+    /**
+     * @return The predicate used to claim {@link InjectionTarget}s
+     */
+    public BiPredicate<InjectionTarget, JTypeSystem> claimTest() {
+        return this.claimTest;
+    }
+
     @Override
     public boolean claims(JTypeSystem system, InjectionTarget target) {
         return this.claimTest.test(target, system);
@@ -36,6 +44,22 @@ public class SimpleBinding implements Binding {
 
     @Override
     public InjectionResult handle(JTypeSystem system, InjectionTarget target) {
-        return this.result.apply(target, system);
+        ProviderEvent event = ProviderEvent.start();
+        if (event == null) {
+            return this.result.apply(target, system);
+        }
+
+        InjectionResult result = null;
+        try {
+            result = this.result.apply(target, system);
+            return result;
+        } finally {
+            event.commit(this, target, result);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SimpleBinding[" + this.claimTest + "]";
     }
 }
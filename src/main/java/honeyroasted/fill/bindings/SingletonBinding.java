@@ -0,0 +1,37 @@
+package honeyroasted.fill.bindings;
+
+import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.jype.system.JTypeSystem;
+
+/**
+ * A {@link ScopedBinding} for {@link Scope#SINGLETON}. Once a value has been produced, it is returned with a single
+ * volatile read; the binding is only locked while the first value is produced.
+ */
+class SingletonBinding extends ScopedBinding {
+    private volatile InjectionResult result;
+
+    SingletonBinding(Binding binding) {
+        super(binding);
+    }
+
+    @Override
+    public InjectionResult handle(JTypeSystem system, InjectionTarget target) {
+        InjectionResult result = this.result;
+        if (result != null) {
+            return result;
+        }
+
+        synchronized (this) {
+            result = this.result;
+            if (result == null) {
+                result = binding().handle(system, target);
+                if (result.type() == InjectionResult.Type.SET) {
+                    this.result = result;
+                }
+            }
+            return result;
+        }
+    }
+
+}
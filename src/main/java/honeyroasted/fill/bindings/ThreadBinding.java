@@ -0,0 +1,29 @@
+package honeyroasted.fill.bindings;
+
+import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.jype.system.JTypeSystem;
+
+/**
+ * A {@link ScopedBinding} for {@link Scope#THREAD}
+ */
+class ThreadBinding extends ScopedBinding {
+    private final ThreadLocal<InjectionResult> result = new ThreadLocal<>();
+
+    ThreadBinding(Binding binding) {
+        super(binding);
+    }
+
+    @Override
+    public InjectionResult handle(JTypeSystem system, InjectionTarget target) {
+        InjectionResult result = this.result.get();
+        if (result == null) {
+            result = binding().handle(system, target);
+            if (result.type() == InjectionResult.Type.SET) {
+                this.result.set(result);
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,103 @@
+package honeyroasted.fill.bindings;
+
+import honeyroasted.jype.system.JTypeSystem;
+import honeyroasted.jype.system.solver.constraints.JTypeConstraints;
+import honeyroasted.jype.type.JType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, concurrent cache of loose invocation compatibility results between a bound type and a target type, so
+ * that repeated checks do not re-run the {@link JTypeSystem}'s constraint solver. When the cache grows past its
+ * maximum size it is cleared, rather than tracking recency, to keep lookups cheap.
+ * <p>
+ * A cache strongly holds the types it has checked, so there is no process-wide cache. Each {@link TypeMatcher} has its
+ * own cache by default, which is released along with the matcher.
+ */
+public class TypeCompatibilityCache {
+    /**
+     * The maximum size of the cache each {@link TypeMatcher} is created with
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private final int maximumSize;
+    private final Map<Key, Boolean> results = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a new {@link TypeCompatibilityCache}
+     *
+     * @param maximumSize The number of results to hold before the cache is cleared
+     */
+    public TypeCompatibilityCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive, was " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Checks whether the given type is compatible with the given target type in a loose invocation context, using a
+     * cached result if one is present
+     *
+     * @param system The {@link JTypeSystem} to use for type logic
+     * @param type   The bound type
+     * @param target The target type
+     * @return True if a value of the bound type may be assigned to the target type
+     */
+    public boolean isCompatible(JTypeSystem system, JType type, JType target) {
+        Key key = new Key(system, type, target);
+        Boolean result = this.results.get(key);
+        if (result != null) {
+            this.hits.increment();
+            return result;
+        }
+
+        this.misses.increment();
+        result = system.operations().isCompatible(type, target, JTypeConstraints.Compatible.Context.LOOSE_INVOCATION);
+        if (this.results.size() >= this.maximumSize) {
+            this.results.clear();
+        }
+        this.results.put(key, result);
+        return result;
+    }
+
+    /**
+     * Removes all cached results. Statistics are not reset.
+     */
+    public void clear() {
+        this.results.clear();
+    }
+
+    /**
+     * @return A snapshot of the statistics of this cache
+     */
+    public Stats stats() {
+        return new Stats(this.hits.sum(), this.misses.sum(), this.results.size());
+    }
+
+    /**
+     * A snapshot of the statistics of a {@link TypeCompatibilityCache}
+     *
+     * @param hits   The number of checks answered from the cache
+     * @param misses The number of checks which ran the solver
+     * @param size   The number of results currently cached
+     */
+    public record Stats(long hits, long misses, int size) {
+
+        /**
+         * @return The fraction of checks answered from the cache, or 0 if there were no checks
+         */
+        public double hitRate() {
+            long total = this.hits + this.misses;
+            return total == 0 ? 0 : (double) this.hits / total;
+        }
+    }
+
+    private record Key(JTypeSystem system, JType type, JType target) {
+    }
+
+}
@@ -0,0 +1,145 @@
+package honeyroasted.fill.bindings;
+
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.PlainTypes;
+import honeyroasted.jype.system.JTypeSystem;
+import honeyroasted.jype.system.resolver.reflection.JTypeToken;
+import honeyroasted.jype.type.JType;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * A {@link Matcher} that matches {@link InjectionTarget}s by type, either based on assignment rules or on exact type
+ * equality. The bound type may be given as a {@link Type}, a {@link JType} or a {@link JTypeToken}.
+ * <p>
+ * The bound type is resolved once for the most recently used {@link JTypeSystem}, and compatibility results are cached
+ * in a {@link TypeCompatibilityCache} of this matcher, unless a cache shared with other matchers is given with
+ * {@link #withCache(TypeCompatibilityCache)}. When both the bound type and the target type are plain, as
+ * defined by {@link PlainTypes}, the match is decided without the {@link JTypeSystem}.
+ */
+public class TypeMatcher implements Matcher {
+    private final Type reflectionType;
+    private final JType type;
+    private final JTypeToken<?> token;
+    private final boolean exact;
+    private final Class<?> plainType;
+    private final TypeCompatibilityCache cache;
+
+    private volatile Resolved resolved;
+
+    private TypeMatcher(Type reflectionType, JType type, JTypeToken<?> token, boolean exact, TypeCompatibilityCache cache) {
+        this.reflectionType = reflectionType;
+        this.type = type;
+        this.token = token;
+        this.exact = exact;
+        this.plainType = PlainTypes.plain(reflectionType);
+        this.cache = cache;
+    }
+
+    /**
+     * Creates a new {@link TypeMatcher}
+     *
+     * @param type  The type to match
+     * @param exact Whether to match based on exact type equality instead of assignment rules
+     */
+    public TypeMatcher(Type type, boolean exact) {
+        this(type, null, null, exact, new TypeCompatibilityCache(TypeCompatibilityCache.DEFAULT_MAXIMUM_SIZE));
+    }
+
+    /**
+     * Creates a new {@link TypeMatcher}
+     *
+     * @param type  The type to match
+     * @param exact Whether to match based on exact type equality instead of assignment rules
+     */
+    public TypeMatcher(JType type, boolean exact) {
+        this(null, type, null, exact, new TypeCompatibilityCache(TypeCompatibilityCache.DEFAULT_MAXIMUM_SIZE));
+    }
+
+    /**
+     * Creates a new {@link TypeMatcher}
+     *
+     * @param token The type to match
+     * @param exact Whether to match based on exact type equality instead of assignment rules
+     */
+    public TypeMatcher(JTypeToken<?> token, boolean exact) {
+        this(null, null, token, exact, new TypeCompatibilityCache(TypeCompatibilityCache.DEFAULT_MAXIMUM_SIZE));
+    }
+
+    /**
+     * Creates a copy of this {@link TypeMatcher} which caches compatibility results in the given cache
+     *
+     * @param cache The cache to use
+     * @return A new {@link TypeMatcher}
+     */
+    public TypeMatcher withCache(TypeCompatibilityCache cache) {
+        return new TypeMatcher(this.reflectionType, this.type, this.token, this.exact, cache);
+    }
+
+    /**
+     * @return The {@link TypeCompatibilityCache} this matcher caches compatibility results in
+     */
+    public TypeCompatibilityCache cache() {
+        return this.cache;
+    }
+
+    /**
+     * @return True if this matcher is based on exact type equality, false if it is based on assignment rules
+     */
+    public boolean exact() {
+        return this.exact;
+    }
+
+    /**
+     * @return The raw {@link Class} of the matched type, or null if it is not known without a {@link JTypeSystem}
+     */
+    public Class<?> rawType() {
+        if (this.reflectionType instanceof Class<?> cls) {
+            return cls;
+        } else if (this.reflectionType instanceof ParameterizedType parameterized && parameterized.getRawType() instanceof Class<?> cls) {
+            return cls;
+        }
+        return null;
+    }
+
+    /**
+     * Resolves the matched type
+     *
+     * @param system The {@link JTypeSystem} to use for resolution
+     * @return The matched type, as a {@link JType}
+     */
+    public JType resolve(JTypeSystem system) {
+        if (this.type != null) {
+            return this.type;
+        }
+
+        Resolved resolved = this.resolved;
+        if (resolved == null || resolved.system() != system) {
+            JType type = this.reflectionType != null ? system.tryResolve(this.reflectionType) : this.token.resolve(system);
+            resolved = new Resolved(system, type);
+            this.resolved = resolved;
+        }
+        return resolved.type();
+    }
+
+    @Override
+    public boolean test(InjectionTarget target, JTypeSystem system) {
+        if (this.plainType != null && target.plainType() != null) {
+            return this.exact ? this.plainType == target.plainType() : PlainTypes.isCompatible(this.plainType, target.plainType());
+        }
+
+        JType type = resolve(system);
+        return this.exact ? target.type().typeEquals(type) :
+                this.cache.isCompatible(system, type, target.type());
+    }
+
+    @Override
+    public String toString() {
+        Object type = this.reflectionType != null ? this.reflectionType.getTypeName() : this.token != null ? this.token : this.type;
+        return (this.exact ? "exactType(" : "type(") + type + ")";
+    }
+
+    private record Resolved(JTypeSystem system, JType type) {
+    }
+}
@@ -0,0 +1,44 @@
+package honeyroasted.fill.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * A JDK Flight Recorder event for the creation of an instance by an injector, including the resolution of its
+ * constructor's parameters
+ */
+@Name("honeyroasted.fill.Create")
+@Label("Create")
+@Category("Fill")
+@Description("Creation of an instance through an injection constructor")
+@Threshold("1 ms")
+public final class CreateEvent extends Event {
+    private static final EventProbe<CreateEvent> PROBE = new EventProbe<>(CreateEvent::new);
+
+    @Label("Target Class")
+    Class<?> targetClass;
+
+    /**
+     * @return A begun event, or null if this event is not enabled in a running recording
+     */
+    public static CreateEvent start() {
+        return PROBE.start();
+    }
+
+    /**
+     * Ends this event and commits it, if it is enabled and exceeded its threshold
+     *
+     * @param targetClass The class which was created
+     */
+    public void commit(Class<?> targetClass) {
+        if (shouldCommit()) {
+            this.targetClass = targetClass;
+            commit();
+        }
+    }
+
+}
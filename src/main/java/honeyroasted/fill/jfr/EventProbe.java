@@ -0,0 +1,36 @@
+package honeyroasted.fill.jfr;
+
+import jdk.jfr.Event;
+
+import java.util.function.Supplier;
+
+/**
+ * Begins events of one type only when they are enabled in a running recording, so that disabled events cost no
+ * allocation. Whether an event type is enabled is checked on a single shared instance.
+ *
+ * @param <T> The type of event
+ */
+final class EventProbe<T extends Event> {
+    private final Supplier<T> factory;
+    private final T probe;
+
+    EventProbe(Supplier<T> factory) {
+        this.factory = factory;
+        this.probe = factory.get();
+    }
+
+    boolean enabled() {
+        return this.probe.isEnabled();
+    }
+
+    T start() {
+        if (!this.probe.isEnabled()) {
+            return null;
+        }
+
+        T event = this.factory.get();
+        event.begin();
+        return event;
+    }
+
+}
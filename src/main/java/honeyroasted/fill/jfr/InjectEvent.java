@@ -0,0 +1,43 @@
+package honeyroasted.fill.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * A JDK Flight Recorder event for the injection of an object's fields and methods by an injector
+ */
+@Name("honeyroasted.fill.Inject")
+@Label("Inject")
+@Category("Fill")
+@Description("Injection of an object's fields and methods")
+@Threshold("1 ms")
+public final class InjectEvent extends Event {
+    private static final EventProbe<InjectEvent> PROBE = new EventProbe<>(InjectEvent::new);
+
+    @Label("Target Class")
+    Class<?> targetClass;
+
+    /**
+     * @return A begun event, or null if this event is not enabled in a running recording
+     */
+    public static InjectEvent start() {
+        return PROBE.start();
+    }
+
+    /**
+     * Ends this event and commits it, if it is enabled and exceeded its threshold
+     *
+     * @param targetClass The class of the object which was injected
+     */
+    public void commit(Class<?> targetClass) {
+        if (shouldCommit()) {
+            this.targetClass = targetClass;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+package honeyroasted.fill.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * A JDK Flight Recorder event for the injection of a class's static fields and methods by an injector
+ */
+@Name("honeyroasted.fill.InjectStatic")
+@Label("Inject Static")
+@Category("Fill")
+@Description("Injection of a class's static fields and methods")
+@Threshold("1 ms")
+public final class InjectStaticEvent extends Event {
+    private static final EventProbe<InjectStaticEvent> PROBE = new EventProbe<>(InjectStaticEvent::new);
+
+    @Label("Target Class")
+    Class<?> targetClass;
+
+    /**
+     * @return A begun event, or null if this event is not enabled in a running recording
+     */
+    public static InjectStaticEvent start() {
+        return PROBE.start();
+    }
+
+    /**
+     * Ends this event and commits it, if it is enabled and exceeded its threshold
+     *
+     * @param targetClass The class which was injected
+     */
+    public void commit(Class<?> targetClass) {
+        if (shouldCommit()) {
+            this.targetClass = targetClass;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package honeyroasted.fill.jfr;
+
+import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.bindings.Binding;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A JDK Flight Recorder event for the invocation of a binding's provider or factory
+ */
+@Name("honeyroasted.fill.Provider")
+@Label("Provider")
+@Category("Fill")
+@Description("Invocation of a binding's provider or factory")
+@Threshold("100 us")
+@StackTrace(false)
+public final class ProviderEvent extends Event {
+    private static final EventProbe<ProviderEvent> PROBE = new EventProbe<>(ProviderEvent::new);
+
+    @Label("Binding")
+    String binding;
+
+    @Label("Member")
+    String member;
+
+    @Label("Target Type")
+    Class<?> targetType;
+
+    @Label("Result")
+    String result;
+
+    /**
+     * @return True if this event is enabled in a running recording
+     */
+    public static boolean enabled() {
+        return PROBE.enabled();
+    }
+
+    /**
+     * @return A begun event, or null if this event is not enabled in a running recording
+     */
+    public static ProviderEvent start() {
+        return PROBE.start();
+    }
+
+    /**
+     * Ends this event and commits it, if it is enabled and exceeded its threshold
+     *
+     * @param binding The binding whose provider was invoked
+     * @param target  The target the provider was invoked for
+     * @param result  The result of the provider, or null if it threw
+     */
+    public void commit(Binding binding, InjectionTarget target, InjectionResult result) {
+        if (shouldCommit()) {
+            this.binding = String.valueOf(binding);
+            this.member = target.name();
+            this.targetType = target.rawType();
+            this.result = result == null ? "EXCEPTION" : result.type().name();
+            commit();
+        }
+    }
+
+}
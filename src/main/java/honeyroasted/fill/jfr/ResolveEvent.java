@@ -0,0 +1,120 @@
+package honeyroasted.fill.jfr;
+
+import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.bindings.Binding;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Parameter;
+
+/**
+ * A JDK Flight Recorder event for the resolution of a single field or parameter by an injector's bindings. While an
+ * event is begun, it is open on the current thread, and records the binding which produced the result through
+ * {@link #claimant(Binding)}.
+ */
+@Name("honeyroasted.fill.Resolve")
+@Label("Resolve")
+@Category("Fill")
+@Description("Resolution of a field or parameter by an injector's bindings")
+@Threshold("100 us")
+@StackTrace(false)
+public final class ResolveEvent extends Event {
+    private static final EventProbe<ResolveEvent> PROBE = new EventProbe<>(ResolveEvent::new);
+    private static final ThreadLocal<ResolveEvent> CURRENT = new ThreadLocal<>();
+
+    @Label("Target Class")
+    @Description("The class declaring the member")
+    Class<?> targetClass;
+
+    @Label("Member")
+    String member;
+
+    @Label("Target Type")
+    Class<?> targetType;
+
+    @Label("Binding")
+    @Description("The binding which produced the result")
+    String binding;
+
+    @Label("Result")
+    String result;
+
+    //Not a supported field type, so it is not recorded
+    private ResolveEvent previous;
+
+    /**
+     * @return True if this event is enabled in a running recording
+     */
+    public static boolean enabled() {
+        return PROBE.enabled();
+    }
+
+    /**
+     * @return A begun event, open on the current thread until it is committed, or null if this event is not enabled in a
+     * running recording
+     */
+    public static ResolveEvent start() {
+        ResolveEvent event = PROBE.start();
+        if (event != null) {
+            event.previous = CURRENT.get();
+            CURRENT.set(event);
+        }
+        return event;
+    }
+
+    /**
+     * @return True if an event is open on the current thread
+     */
+    public static boolean recording() {
+        return PROBE.enabled() && CURRENT.get() != null;
+    }
+
+    /**
+     * Records the binding which produced the result of the event open on the current thread, if any. Only the first
+     * binding recorded for an event is kept, so when bindings are nested, the innermost one is reported.
+     *
+     * @param binding The binding which produced the result
+     */
+    public static void claimant(Binding binding) {
+        if (PROBE.enabled()) {
+            ResolveEvent event = CURRENT.get();
+            if (event != null && event.binding == null) {
+                event.binding = String.valueOf(binding);
+            }
+        }
+    }
+
+    /**
+     * Ends this event and commits it, if it is enabled and exceeded its threshold
+     *
+     * @param target The target which was resolved
+     * @param result The result of resolving the target, or null if resolution failed
+     */
+    public void commit(InjectionTarget target, InjectionResult result) {
+        if (this.previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(this.previous);
+        }
+
+        if (shouldCommit()) {
+            Member member = target.element() instanceof Field field ? field :
+                    target.element() instanceof Parameter parameter ? parameter.getDeclaringExecutable() : null;
+            this.targetClass = member == null ? null : member.getDeclaringClass();
+            this.member = member instanceof Executable executable ? executable.getName() + "(" + target.name() + ")" : target.name();
+            this.targetType = target.rawType();
+            this.result = result == null ? "EXCEPTION" : result.type().name();
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package honeyroasted.fill.metrics;
+
+import honeyroasted.fill.InjectionResult;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters behind a {@link InjectionMetrics.Counts}
+ */
+final class Counters {
+    private final LongAdder claimChecks = new LongAdder();
+    private final LongAdder claims = new LongAdder();
+    private final LongAdder handles = new LongAdder();
+    private final LongAdder set = new LongAdder();
+    private final LongAdder ignore = new LongAdder();
+    private final LongAdder error = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    void claim(boolean claimed) {
+        this.claimChecks.increment();
+        if (claimed) {
+            this.claims.increment();
+        }
+    }
+
+    void handle(InjectionResult.Type type, long nanos) {
+        this.handles.increment();
+        if (type == InjectionResult.Type.SET) {
+            this.set.increment();
+        } else if (type == InjectionResult.Type.IGNORE) {
+            this.ignore.increment();
+        } else {
+            this.error.increment();
+        }
+        this.latency.record(nanos);
+    }
+
+    InjectionMetrics.Counts snapshot() {
+        return new InjectionMetrics.Counts(this.claimChecks.sum(), this.claims.sum(), this.handles.sum(),
+                this.set.sum(), this.ignore.sum(), this.error.sum(), this.latency.snapshot());
+    }
+
+    void reset() {
+        this.claimChecks.reset();
+        this.claims.reset();
+        this.handles.reset();
+        this.set.reset();
+        this.ignore.reset();
+        this.error.reset();
+        this.latency.reset();
+    }
+
+}
@@ -0,0 +1,217 @@
+package honeyroasted.fill.metrics;
+
+import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.bindings.Binding;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects counts of claim checks, handle calls and their outcomes for {@link Binding}s and for the classes of
+ * {@link InjectionTarget}s, along with histograms of the time taken to handle targets. Metrics are only collected by
+ * bindings wrapped with {@link #meter(Binding)} or {@link #meterTargets(Binding)}, so unwrapped bindings pay nothing for
+ * them. Counters are {@link java.util.concurrent.atomic.LongAdder}s, and are read through {@link #snapshot()}.
+ * <p>
+ * Target metrics hold strong references to the classes they count, until {@link #reset()} is called.
+ */
+public final class InjectionMetrics {
+    private final Map<MeteredBinding, Counters> bindings = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<Class<?>, Counters> targets = new ConcurrentHashMap<>();
+
+    /**
+     * Wraps the given binding so that its claim checks, handle calls, outcomes and latency are recorded in this
+     * {@link InjectionMetrics}
+     *
+     * @param binding The binding to meter
+     * @return A binding which claims and handles the same targets as the given binding
+     */
+    public Binding meter(Binding binding) {
+        if (binding instanceof MeteredBinding metered && metered.metrics() == this) {
+            return binding;
+        }
+
+        MeteredBinding metered = new MeteredBinding(binding, this, new Counters());
+        this.bindings.put(metered, metered.counters());
+        return metered;
+    }
+
+    /**
+     * Wraps the given binding so that its claim checks, handle calls, outcomes and latency are recorded in this
+     * {@link InjectionMetrics} by the raw type of each target, such as the top-level binding of an injector
+     *
+     * @param binding The binding to meter
+     * @return A binding which claims and handles the same targets as the given binding
+     */
+    public Binding meterTargets(Binding binding) {
+        return new TargetMeteredBinding(binding, this);
+    }
+
+    /**
+     * @return A snapshot of the metrics recorded so far
+     */
+    public Snapshot snapshot() {
+        Map<Binding, Counts> bindings = new LinkedHashMap<>();
+        synchronized (this.bindings) {
+            //A binding metered more than once is reported once, with the counts of each wrapper added together
+            this.bindings.forEach((binding, counters) -> bindings.merge(binding.binding(), counters.snapshot(), Counts::plus));
+        }
+
+        Map<Class<?>, Counts> targets = new LinkedHashMap<>();
+        this.targets.forEach((type, counters) -> targets.put(type, counters.snapshot()));
+        return new Snapshot(Collections.unmodifiableMap(bindings), Collections.unmodifiableMap(targets));
+    }
+
+    /**
+     * Resets every metric recorded so far, and forgets every target class
+     */
+    public void reset() {
+        synchronized (this.bindings) {
+            this.bindings.values().forEach(Counters::reset);
+        }
+        this.targets.clear();
+    }
+
+    Counters target(Class<?> type) {
+        return this.targets.computeIfAbsent(type, t -> new Counters());
+    }
+
+    /**
+     * A snapshot of the metrics of an {@link InjectionMetrics}
+     *
+     * @param bindings The counts of each metered binding, in the order the bindings were first metered. The counts of a
+     *                 binding metered more than once are added together
+     * @param targets  The counts of each target class
+     */
+    public record Snapshot(Map<Binding, Counts> bindings, Map<Class<?>, Counts> targets) {
+
+        /**
+         * Gets the counts of the given binding
+         *
+         * @param binding The binding, as it was given to {@link #meter(Binding)}
+         * @return The counts of the binding, or {@link Counts#EMPTY} if it was not metered
+         */
+        public Counts of(Binding binding) {
+            return this.bindings.getOrDefault(binding, Counts.EMPTY);
+        }
+
+        /**
+         * Gets the counts of the given target class
+         *
+         * @param type The target class
+         * @return The counts of the target class, or {@link Counts#EMPTY} if no target of the class was recorded
+         */
+        public Counts of(Class<?> type) {
+            return this.targets.getOrDefault(type, Counts.EMPTY);
+        }
+    }
+
+    /**
+     * The counts recorded for a binding or target class
+     *
+     * @param claimChecks The number of times a binding was asked whether it claims a target
+     * @param claims      The number of those checks which were claimed
+     * @param handles     The number of handle calls
+     * @param set         The number of handle calls which resulted in {@link InjectionResult.Type#SET}
+     * @param ignore      The number of handle calls which resulted in {@link InjectionResult.Type#IGNORE}
+     * @param error       The number of handle calls which resulted in {@link InjectionResult.Type#ERROR}, or threw
+     * @param latency     The time taken by the handle calls
+     */
+    public record Counts(long claimChecks, long claims, long handles, long set, long ignore, long error, Latency latency) {
+        /**
+         * Counts with no recorded activity
+         */
+        public static final Counts EMPTY = new Counts(0, 0, 0, 0, 0, 0, new Latency(new long[LatencyHistogram.BUCKETS], 0, 0));
+
+        /**
+         * Adds the given counts to these counts
+         *
+         * @param other The counts to add
+         * @return The sum of both counts
+         */
+        public Counts plus(Counts other) {
+            return new Counts(this.claimChecks + other.claimChecks, this.claims + other.claims, this.handles + other.handles,
+                    this.set + other.set, this.ignore + other.ignore, this.error + other.error, this.latency.plus(other.latency));
+        }
+    }
+
+    /**
+     * A histogram of durations. Bucket {@code i} counts durations of at least {@code 2^(i - 1)} and less than
+     * {@code 2^i} nanoseconds, and bucket 0 counts durations of 0 nanoseconds.
+     *
+     * @param buckets    The number of durations in each bucket
+     * @param count      The number of durations
+     * @param totalNanos The sum of the durations, in nanoseconds
+     */
+    public record Latency(long[] buckets, long count, long totalNanos) {
+
+        /**
+         * Creates a new {@link Latency}, holding a copy of the given buckets
+         */
+        public Latency {
+            buckets = buckets.clone();
+        }
+
+        /**
+         * @return A copy of the number of durations in each bucket
+         */
+        @Override
+        public long[] buckets() {
+            return this.buckets.clone();
+        }
+
+        /**
+         * Adds the given durations to these durations
+         *
+         * @param other The durations to add
+         * @return A histogram of the durations of both histograms
+         */
+        public Latency plus(Latency other) {
+            long[] buckets = new long[Math.max(this.buckets.length, other.buckets.length)];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = (i < this.buckets.length ? this.buckets[i] : 0) + (i < other.buckets.length ? other.buckets[i] : 0);
+            }
+            return new Latency(buckets, this.count + other.count, this.totalNanos + other.totalNanos);
+        }
+
+        /**
+         * @return The mean duration in nanoseconds, or 0 if there are no durations
+         */
+        public double mean() {
+            return this.count == 0 ? 0 : (double) this.totalNanos / this.count;
+        }
+
+        /**
+         * Gets an upper bound of the given percentile of the durations, accurate to a power of two
+         *
+         * @param percentile The percentile, between 0 and 100
+         * @return The upper bound of the bucket containing the percentile, in nanoseconds, or 0 if there are no durations
+         */
+        public long percentile(double percentile) {
+            long rank = (long) Math.ceil(this.count * Math.min(100, Math.max(0, percentile)) / 100);
+            long seen = 0;
+            for (int i = 0; i < this.buckets.length; i++) {
+                seen += this.buckets[i];
+                if (seen >= rank && seen > 0) {
+                    return i == 0 ? 0 : i >= 63 ? Long.MAX_VALUE : (1L << i) - 1;
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Gets an upper bound of the given percentile of the durations, as with {@link #percentile(double)}
+         *
+         * @param percentile The percentile, between 0 and 100
+         * @param unit       The unit to convert the bound to
+         * @return The upper bound of the bucket containing the percentile
+         */
+        public long percentile(double percentile, TimeUnit unit) {
+            return unit.convert(percentile(percentile), TimeUnit.NANOSECONDS);
+        }
+    }
+
+}
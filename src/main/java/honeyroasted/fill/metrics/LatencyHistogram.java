@@ -0,0 +1,43 @@
+package honeyroasted.fill.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent histogram of durations with power of two buckets, as described by {@link InjectionMetrics.Latency}
+ */
+final class LatencyHistogram {
+    static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder total = new LongAdder();
+
+    LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long nanos) {
+        long duration = Math.max(0, nanos);
+        this.buckets[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(duration))].increment();
+        this.total.add(duration);
+    }
+
+    InjectionMetrics.Latency snapshot() {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = this.buckets[i].sum();
+            count += counts[i];
+        }
+        return new InjectionMetrics.Latency(counts, count, this.total.sum());
+    }
+
+    void reset() {
+        for (LongAdder bucket : this.buckets) {
+            bucket.reset();
+        }
+        this.total.reset();
+    }
+
+}
@@ -0,0 +1,73 @@
+package honeyroasted.fill.metrics;
+
+import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.bindings.Binding;
+import honeyroasted.fill.bindings.DelegatingBinding;
+import honeyroasted.jype.system.JTypeSystem;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link Binding} which claims and handles the same targets as another binding, and records its claim checks, handle
+ * calls, outcomes and latency in an {@link InjectionMetrics}. Created by {@link InjectionMetrics#meter(Binding)}.
+ */
+public final class MeteredBinding implements DelegatingBinding {
+    private final Binding binding;
+    private final InjectionMetrics metrics;
+    private final Counters counters;
+
+    MeteredBinding(Binding binding, InjectionMetrics metrics, Counters counters) {
+        this.binding = binding;
+        this.metrics = metrics;
+        this.counters = counters;
+    }
+
+    @Override
+    public Binding binding() {
+        return this.binding;
+    }
+
+    InjectionMetrics metrics() {
+        return this.metrics;
+    }
+
+    Counters counters() {
+        return this.counters;
+    }
+
+    @Override
+    public boolean claims(JTypeSystem system, InjectionTarget target) {
+        boolean claimed = this.binding.claims(system, target);
+        this.counters.claim(claimed);
+        return claimed;
+    }
+
+    @Override
+    public InjectionResult handle(JTypeSystem system, InjectionTarget target) {
+        long start = System.nanoTime();
+        InjectionResult result = null;
+        try {
+            result = this.binding.handle(system, target);
+            return result;
+        } finally {
+            this.counters.handle(result == null ? InjectionResult.Type.ERROR : result.type(), System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public CompletableFuture<InjectionResult> handleAsync(JTypeSystem system, InjectionTarget target, Executor executor) {
+        long start = System.nanoTime();
+        CompletableFuture<InjectionResult> result = this.binding.handleAsync(system, target, executor);
+        result.whenComplete((value, error) ->
+                this.counters.handle(value == null ? InjectionResult.Type.ERROR : value.type(), System.nanoTime() - start));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "MeteredBinding[" + this.binding + "]";
+    }
+
+}
@@ -0,0 +1,70 @@
+package honeyroasted.fill.metrics;
+
+import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.bindings.Binding;
+import honeyroasted.fill.bindings.DelegatingBinding;
+import honeyroasted.jype.system.JTypeSystem;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link Binding} which claims and handles the same targets as another binding, and records its claim checks, handle
+ * calls, outcomes and latency in an {@link InjectionMetrics} by the raw type of each target. Created by
+ * {@link InjectionMetrics#meterTargets(Binding)}.
+ */
+final class TargetMeteredBinding implements DelegatingBinding {
+    private final Binding binding;
+    private final InjectionMetrics metrics;
+
+    TargetMeteredBinding(Binding binding, InjectionMetrics metrics) {
+        this.binding = binding;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Binding binding() {
+        return this.binding;
+    }
+
+    @Override
+    public boolean claims(JTypeSystem system, InjectionTarget target) {
+        boolean claimed = this.binding.claims(system, target);
+        if (target.rawType() != null) {
+            this.metrics.target(target.rawType()).claim(claimed);
+        }
+        return claimed;
+    }
+
+    @Override
+    public InjectionResult handle(JTypeSystem system, InjectionTarget target) {
+        long start = System.nanoTime();
+        InjectionResult result = null;
+        try {
+            result = this.binding.handle(system, target);
+            return result;
+        } finally {
+            if (target.rawType() != null) {
+                this.metrics.target(target.rawType()).handle(result == null ? InjectionResult.Type.ERROR : result.type(), System.nanoTime() - start);
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<InjectionResult> handleAsync(JTypeSystem system, InjectionTarget target, Executor executor) {
+        long start = System.nanoTime();
+        CompletableFuture<InjectionResult> result = this.binding.handleAsync(system, target, executor);
+        if (target.rawType() != null) {
+            result.whenComplete((value, error) -> this.metrics.target(target.rawType())
+                    .handle(value == null ? InjectionResult.Type.ERROR : value.type(), System.nanoTime() - start));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TargetMeteredBinding[" + this.binding + "]";
+    }
+
+}
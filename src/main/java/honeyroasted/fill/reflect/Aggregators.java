@@ -83,6 +83,24 @@ public interface Aggregators {
         return constructors;
     };
 
+    /**
+     * An aggregator that produces the same fields as {@link #ANNOTATED_FIELDS}, resolved from the
+     * {@link MemberIndexes#defaults() default member indices} when the class has been indexed at compile time.
+     */
+    Function<Class<?>, Collection<Field>> INDEXED_FIELDS = cls -> MemberIndexes.defaults().fields(ANNOTATED_FIELDS).apply(cls);
+
+    /**
+     * An aggregator that produces the same methods as {@link #ANNOTATED_METHODS}, resolved from the
+     * {@link MemberIndexes#defaults() default member indices} when the class has been indexed at compile time.
+     */
+    Function<Class<?>, Collection<Method>> INDEXED_METHODS = cls -> MemberIndexes.defaults().methods(ANNOTATED_METHODS).apply(cls);
+
+    /**
+     * An aggregator that produces the same constructors as {@link #ANNOTATED_CONSTRUCTORS}, resolved from the
+     * {@link MemberIndexes#defaults() default member indices} when the class has been indexed at compile time.
+     */
+    Function<Class<?>, Collection<Constructor<?>>> INDEXED_CONSTRUCTORS = cls -> MemberIndexes.defaults().constructors(ANNOTATED_CONSTRUCTORS).apply(cls);
+
     private static boolean hasInjectionAnnotation(AnnotatedElement elm) {
         for (Annotation anot : elm.getAnnotations()) {
             if (anot.annotationType().isAnnotationPresent(InjectionAnnotation.class)) {
@@ -0,0 +1,328 @@
+package honeyroasted.fill.reflect;
+
+import java.lang.classfile.ClassFile;
+import java.lang.classfile.ClassHierarchyResolver;
+import java.lang.classfile.CodeBuilder;
+import java.lang.classfile.Label;
+import java.lang.classfile.instruction.SwitchCase;
+import java.lang.constant.ClassDesc;
+import java.lang.constant.ConstantDescs;
+import java.lang.constant.MethodTypeDesc;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A {@link MemberAccess} implementation which uses the ClassFile API to generate a hidden nestmate class per declaring
+ * class, containing straight-line field loads and stores, method calls and constructor invocations for each of its
+ * members. Members which cannot be reached from generated code, such as final fields or members whose types are not
+ * accessible from the declaring class, are resolved with a fallback {@link MemberAccess} instead.
+ */
+class ClassFileMemberAccess implements MemberAccess {
+    private static final ClassDesc CD_GENERATED_ACCESSOR = ClassDesc.of(GeneratedAccessor.class.getName());
+    private static final ClassDesc CD_ILLEGAL_ARGUMENT = ClassDesc.of(IllegalArgumentException.class.getName());
+
+    private static final MethodTypeDesc MTD_GET = MethodTypeDesc.of(ConstantDescs.CD_Object, ConstantDescs.CD_int, ConstantDescs.CD_Object);
+    private static final MethodTypeDesc MTD_SET = MethodTypeDesc.of(ConstantDescs.CD_void, ConstantDescs.CD_int, ConstantDescs.CD_Object, ConstantDescs.CD_Object);
+    private static final MethodTypeDesc MTD_INVOKE = MethodTypeDesc.of(ConstantDescs.CD_Object, ConstantDescs.CD_int, ConstantDescs.CD_Object, ConstantDescs.CD_Object.arrayType());
+
+    private static final Generated NONE = new Generated(null, Map.of(), Map.of());
+
+    private final MethodHandles.Lookup lookup;
+    private final MemberAccess fallback;
+
+    private final ClassValue<Generated> generated = new ClassValue<>() {
+        @Override
+        protected Generated computeValue(Class<?> type) {
+            return generate(type);
+        }
+    };
+
+    ClassFileMemberAccess(MethodHandles.Lookup lookup, MemberAccess fallback) {
+        this.lookup = lookup;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FieldAccessor field(Field field) throws ReflectiveOperationException {
+        Generated generated = this.generated.get(field.getDeclaringClass());
+        Integer index = generated.fields().get(field);
+        if (index == null) {
+            return this.fallback.field(field);
+        }
+        return new GeneratedFieldAccessor(generated.accessor(), index);
+    }
+
+    @Override
+    public Invoker method(Method method) throws ReflectiveOperationException {
+        Generated generated = this.generated.get(method.getDeclaringClass());
+        Integer index = generated.executables().get(method);
+        if (index == null) {
+            return this.fallback.method(method);
+        }
+        return new GeneratedInvoker(generated.accessor(), index);
+    }
+
+    @Override
+    public Invoker constructor(Constructor<?> constructor) throws ReflectiveOperationException {
+        Generated generated = this.generated.get(constructor.getDeclaringClass());
+        Integer index = generated.executables().get(constructor);
+        if (index == null) {
+            return this.fallback.constructor(constructor);
+        }
+        return new GeneratedInvoker(generated.accessor(), index);
+    }
+
+    private Generated generate(Class<?> type) {
+        if (type.isHidden() || type.isArray() || type.isPrimitive() || type.getClassLoader() == null) {
+            return NONE;
+        }
+
+        try {
+            //The generated class must see the same GeneratedAccessor as this class
+            if (Class.forName(GeneratedAccessor.class.getName(), false, type.getClassLoader()) != GeneratedAccessor.class) {
+                return NONE;
+            }
+
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, this.lookup);
+            if (!lookup.hasFullPrivilegeAccess()) {
+                return NONE;
+            }
+
+            List<Field> fields = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                if (!field.isSynthetic() && !Modifier.isFinal(field.getModifiers()) && accessible(field.getType(), type)) {
+                    fields.add(field);
+                }
+            }
+
+            List<Executable> executables = new ArrayList<>();
+            for (Method method : type.getDeclaredMethods()) {
+                if (!method.isSynthetic() && accessible(method.getReturnType(), type) && accessible(method.getParameterTypes(), type)) {
+                    executables.add(method);
+                }
+            }
+
+            if (!type.isInterface() && !type.isEnum() && !Modifier.isAbstract(type.getModifiers())) {
+                for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+                    if (!constructor.isSynthetic() && accessible(constructor.getParameterTypes(), type)) {
+                        executables.add(constructor);
+                    }
+                }
+            }
+
+            ClassDesc owner = desc(type);
+            ClassHierarchyResolver resolver = ClassHierarchyResolver.defaultResolver()
+                    .orElse(ClassHierarchyResolver.ofClassLoading(type.getClassLoader()));
+            byte[] bytes = ClassFile.of(ClassFile.ClassHierarchyResolverOption.of(resolver))
+                    .build(ClassDesc.of(type.getName() + "$$FillAccessor"), cb -> cb
+                            .withFlags(ClassFile.ACC_PUBLIC | ClassFile.ACC_FINAL | ClassFile.ACC_SYNTHETIC)
+                            .withSuperclass(ConstantDescs.CD_Object)
+                            .withInterfaceSymbols(CD_GENERATED_ACCESSOR)
+                            .withMethodBody(ConstantDescs.INIT_NAME, ConstantDescs.MTD_void, ClassFile.ACC_PUBLIC, code -> code
+                                    .aload(0)
+                                    .invokespecial(ConstantDescs.CD_Object, ConstantDescs.INIT_NAME, ConstantDescs.MTD_void)
+                                    .return_())
+                            .withMethodBody("get", MTD_GET, ClassFile.ACC_PUBLIC, code ->
+                                    indexSwitch(code, fields, field -> {
+                                        if (Modifier.isStatic(field.getModifiers())) {
+                                            code.getstatic(owner, field.getName(), desc(field.getType()));
+                                        } else {
+                                            code.aload(2).checkcast(owner).getfield(owner, field.getName(), desc(field.getType()));
+                                        }
+                                        box(code, field.getType());
+                                        code.areturn();
+                                    }))
+                            .withMethodBody("set", MTD_SET, ClassFile.ACC_PUBLIC, code ->
+                                    indexSwitch(code, fields, field -> {
+                                        if (Modifier.isStatic(field.getModifiers())) {
+                                            code.aload(3);
+                                            unbox(code, field.getType());
+                                            code.putstatic(owner, field.getName(), desc(field.getType()));
+                                        } else {
+                                            code.aload(2).checkcast(owner).aload(3);
+                                            unbox(code, field.getType());
+                                            code.putfield(owner, field.getName(), desc(field.getType()));
+                                        }
+                                        code.return_();
+                                    }))
+                            .withMethodBody("invoke", MTD_INVOKE, ClassFile.ACC_PUBLIC, code ->
+                                    indexSwitch(code, executables, executable -> {
+                                        if (executable instanceof Constructor<?> constructor) {
+                                            code.new_(owner).dup();
+                                            loadArguments(code, constructor.getParameterTypes());
+                                            code.invokespecial(owner, ConstantDescs.INIT_NAME, desc(void.class, constructor.getParameterTypes()));
+                                        } else {
+                                            Method method = (Method) executable;
+                                            MethodTypeDesc descriptor = desc(method.getReturnType(), method.getParameterTypes());
+                                            if (Modifier.isStatic(method.getModifiers())) {
+                                                loadArguments(code, method.getParameterTypes());
+                                                code.invokestatic(owner, method.getName(), descriptor, type.isInterface());
+                                            } else {
+                                                code.aload(2).checkcast(owner);
+                                                loadArguments(code, method.getParameterTypes());
+                                                if (type.isInterface()) {
+                                                    code.invokeinterface(owner, method.getName(), descriptor);
+                                                } else {
+                                                    code.invokevirtual(owner, method.getName(), descriptor);
+                                                }
+                                            }
+
+                                            if (method.getReturnType() == void.class) {
+                                                code.aconst_null();
+                                            } else {
+                                                box(code, method.getReturnType());
+                                            }
+                                        }
+                                        code.areturn();
+                                    })));
+
+            MethodHandles.Lookup hidden = lookup.defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE);
+            GeneratedAccessor accessor = instantiate(hidden);
+
+            Map<Field, Integer> fieldIndices = new HashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                fieldIndices.put(fields.get(i), i);
+            }
+            Map<Executable, Integer> executableIndices = new HashMap<>();
+            for (int i = 0; i < executables.size(); i++) {
+                executableIndices.put(executables.get(i), i);
+            }
+            return new Generated(accessor, fieldIndices, executableIndices);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            //Generation is impossible for this class, so every member falls back
+            return NONE;
+        }
+    }
+
+    //The generated constructor only calls Object's constructor, so it cannot throw checked exceptions
+    private static GeneratedAccessor instantiate(MethodHandles.Lookup hidden) throws ReflectiveOperationException {
+        MethodHandle constructor = hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class));
+        try {
+            return (GeneratedAccessor) constructor.invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> void indexSwitch(CodeBuilder code, List<T> members, Consumer<T> body) {
+        Label unknown = code.newLabel();
+        List<Label> labels = new ArrayList<>();
+        List<SwitchCase> cases = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            Label label = code.newLabel();
+            labels.add(label);
+            cases.add(SwitchCase.of(i, label));
+        }
+
+        code.iload(1);
+        if (members.isEmpty()) {
+            code.pop().goto_(unknown);
+        } else {
+            code.tableswitch(0, members.size() - 1, unknown, cases);
+        }
+
+        for (int i = 0; i < members.size(); i++) {
+            code.labelBinding(labels.get(i));
+            body.accept(members.get(i));
+        }
+
+        code.labelBinding(unknown)
+                .new_(CD_ILLEGAL_ARGUMENT)
+                .dup()
+                .loadConstant("Unknown member index")
+                .invokespecial(CD_ILLEGAL_ARGUMENT, ConstantDescs.INIT_NAME, MethodTypeDesc.of(ConstantDescs.CD_void, ConstantDescs.CD_String))
+                .athrow();
+    }
+
+    private static void loadArguments(CodeBuilder code, Class<?>[] parameters) {
+        for (int i = 0; i < parameters.length; i++) {
+            code.aload(3).loadConstant(i).aaload();
+            unbox(code, parameters[i]);
+        }
+    }
+
+    private static void box(CodeBuilder code, Class<?> type) {
+        if (type.isPrimitive()) {
+            ClassDesc wrapper = desc(MethodType.methodType(type).wrap().returnType());
+            code.invokestatic(wrapper, "valueOf", MethodTypeDesc.of(wrapper, desc(type)));
+        }
+    }
+
+    private static void unbox(CodeBuilder code, Class<?> type) {
+        if (type.isPrimitive()) {
+            //The GeneratedAccessor helpers only allow the widening conversions Field.set allows
+            String name = type == char.class ? "Char" : Character.toUpperCase(type.getName().charAt(0)) + type.getName().substring(1);
+            code.invokestatic(CD_GENERATED_ACCESSOR, "unbox" + name, MethodTypeDesc.of(desc(type), ConstantDescs.CD_Object), true);
+        } else if (type != Object.class) {
+            code.checkcast(desc(type));
+        }
+    }
+
+    private static boolean accessible(Class<?>[] types, Class<?> from) {
+        for (Class<?> type : types) {
+            if (!accessible(type, from)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean accessible(Class<?> type, Class<?> from) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+
+        if (type.isPrimitive() || type == from) {
+            return true;
+        } else if (type.isHidden()) {
+            return false;
+        } else if (type.getPackageName().equals(from.getPackageName()) && type.getClassLoader() == from.getClassLoader()) {
+            return true;
+        } else {
+            return Modifier.isPublic(type.getModifiers()) && type.getModule().isExported(type.getPackageName(), from.getModule());
+        }
+    }
+
+    private static ClassDesc desc(Class<?> type) {
+        return type.describeConstable().orElseThrow();
+    }
+
+    private static MethodTypeDesc desc(Class<?> returnType, Class<?>[] parameters) {
+        return MethodType.methodType(returnType, parameters).describeConstable().orElseThrow();
+    }
+
+    private record Generated(GeneratedAccessor accessor, Map<Field, Integer> fields, Map<Executable, Integer> executables) {
+    }
+
+    private record GeneratedFieldAccessor(GeneratedAccessor accessor, int index) implements FieldAccessor {
+        @Override
+        public Object get(Object instance) {
+            return this.accessor.get(this.index, instance);
+        }
+
+        @Override
+        public void set(Object instance, Object value) {
+            this.accessor.set(this.index, instance, value);
+        }
+    }
+
+    private record GeneratedInvoker(GeneratedAccessor accessor, int index) implements Invoker {
+        @Override
+        public Object invoke(Object instance, Object[] args) {
+            return this.accessor.invoke(this.index, instance, args);
+        }
+    }
+}
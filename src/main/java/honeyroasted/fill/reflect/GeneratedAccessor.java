@@ -0,0 +1,200 @@
+package honeyroasted.fill.reflect;
+
+/**
+ * The interface implemented by the hidden classes generated by {@link MemberAccess#generated(java.lang.invoke.MethodHandles.Lookup)}.
+ * Each generated class is a nestmate of a single declaring class and provides straight-line access to its members,
+ * selected by index. This interface is not intended to be implemented directly.
+ */
+public interface GeneratedAccessor {
+
+    /**
+     * Reads a field
+     *
+     * @param field    The index of the field
+     * @param instance The instance to read from, or null for static fields
+     * @return The value of the field
+     */
+    Object get(int field, Object instance);
+
+    /**
+     * Writes a field
+     *
+     * @param field    The index of the field
+     * @param instance The instance to write to, or null for static fields
+     * @param value    The value to write
+     */
+    void set(int field, Object instance, Object value);
+
+    /**
+     * Invokes a method or constructor
+     *
+     * @param executable The index of the method or constructor
+     * @param instance   The receiver, or null for static methods and constructors
+     * @param args       The arguments
+     * @return The result of the invocation, the newly constructed object for constructors, or null for void methods
+     */
+    Object invoke(int executable, Object instance, Object[] args);
+
+    /**
+     * Unboxes a value written to a {@code boolean} field or parameter by generated code. As with
+     * {@link java.lang.reflect.Field#set(Object, Object)}, only widening conversions are allowed.
+     *
+     * @param value The value
+     * @return The unboxed value
+     * @throws IllegalArgumentException If the value cannot be converted to a {@code boolean} without narrowing
+     */
+    static boolean unboxBoolean(Object value) {
+        if (value instanceof Boolean z) {
+            return z;
+        }
+        throw unboxing(value, boolean.class);
+    }
+
+    /**
+     * Unboxes a value written to a {@code byte} field or parameter by generated code. As with
+     * {@link java.lang.reflect.Field#set(Object, Object)}, only widening conversions are allowed.
+     *
+     * @param value The value
+     * @return The unboxed value
+     * @throws IllegalArgumentException If the value cannot be converted to a {@code byte} without narrowing
+     */
+    static byte unboxByte(Object value) {
+        if (value instanceof Byte b) {
+            return b;
+        }
+        throw unboxing(value, byte.class);
+    }
+
+    /**
+     * Unboxes a value written to a {@code short} field or parameter by generated code. As with
+     * {@link java.lang.reflect.Field#set(Object, Object)}, only widening conversions are allowed.
+     *
+     * @param value The value
+     * @return The unboxed value
+     * @throws IllegalArgumentException If the value cannot be converted to a {@code short} without narrowing
+     */
+    static short unboxShort(Object value) {
+        if (value instanceof Short s) {
+            return s;
+        } else if (value instanceof Byte b) {
+            return b;
+        }
+        throw unboxing(value, short.class);
+    }
+
+    /**
+     * Unboxes a value written to a {@code char} field or parameter by generated code. As with
+     * {@link java.lang.reflect.Field#set(Object, Object)}, only widening conversions are allowed.
+     *
+     * @param value The value
+     * @return The unboxed value
+     * @throws IllegalArgumentException If the value cannot be converted to a {@code char} without narrowing
+     */
+    static char unboxChar(Object value) {
+        if (value instanceof Character c) {
+            return c;
+        }
+        throw unboxing(value, char.class);
+    }
+
+    /**
+     * Unboxes a value written to a {@code int} field or parameter by generated code. As with
+     * {@link java.lang.reflect.Field#set(Object, Object)}, only widening conversions are allowed.
+     *
+     * @param value The value
+     * @return The unboxed value
+     * @throws IllegalArgumentException If the value cannot be converted to a {@code int} without narrowing
+     */
+    static int unboxInt(Object value) {
+        if (value instanceof Integer i) {
+            return i;
+        } else if (value instanceof Short s) {
+            return s;
+        } else if (value instanceof Byte b) {
+            return b;
+        } else if (value instanceof Character c) {
+            return c;
+        }
+        throw unboxing(value, int.class);
+    }
+
+    /**
+     * Unboxes a value written to a {@code long} field or parameter by generated code. As with
+     * {@link java.lang.reflect.Field#set(Object, Object)}, only widening conversions are allowed.
+     *
+     * @param value The value
+     * @return The unboxed value
+     * @throws IllegalArgumentException If the value cannot be converted to a {@code long} without narrowing
+     */
+    static long unboxLong(Object value) {
+        if (value instanceof Long l) {
+            return l;
+        } else if (value instanceof Integer i) {
+            return i;
+        } else if (value instanceof Short s) {
+            return s;
+        } else if (value instanceof Byte b) {
+            return b;
+        } else if (value instanceof Character c) {
+            return c;
+        }
+        throw unboxing(value, long.class);
+    }
+
+    /**
+     * Unboxes a value written to a {@code float} field or parameter by generated code. As with
+     * {@link java.lang.reflect.Field#set(Object, Object)}, only widening conversions are allowed.
+     *
+     * @param value The value
+     * @return The unboxed value
+     * @throws IllegalArgumentException If the value cannot be converted to a {@code float} without narrowing
+     */
+    static float unboxFloat(Object value) {
+        if (value instanceof Float f) {
+            return f;
+        } else if (value instanceof Long l) {
+            return l;
+        } else if (value instanceof Integer i) {
+            return i;
+        } else if (value instanceof Short s) {
+            return s;
+        } else if (value instanceof Byte b) {
+            return b;
+        } else if (value instanceof Character c) {
+            return c;
+        }
+        throw unboxing(value, float.class);
+    }
+
+    /**
+     * Unboxes a value written to a {@code double} field or parameter by generated code. As with
+     * {@link java.lang.reflect.Field#set(Object, Object)}, only widening conversions are allowed.
+     *
+     * @param value The value
+     * @return The unboxed value
+     * @throws IllegalArgumentException If the value cannot be converted to a {@code double} without narrowing
+     */
+    static double unboxDouble(Object value) {
+        if (value instanceof Double d) {
+            return d;
+        } else if (value instanceof Float f) {
+            return f;
+        } else if (value instanceof Long l) {
+            return l;
+        } else if (value instanceof Integer i) {
+            return i;
+        } else if (value instanceof Short s) {
+            return s;
+        } else if (value instanceof Byte b) {
+            return b;
+        } else if (value instanceof Character c) {
+            return c;
+        }
+        throw unboxing(value, double.class);
+    }
+
+    private static IllegalArgumentException unboxing(Object value, Class<?> type) {
+        return new IllegalArgumentException("Cannot convert " + (value == null ? "null" : value.getClass().getName()) + " to " + type.getName());
+    }
+
+}
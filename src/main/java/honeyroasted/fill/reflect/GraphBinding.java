@@ -0,0 +1,73 @@
+package honeyroasted.fill.reflect;
+
+import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.InjectionSession;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.bindings.Binding;
+import honeyroasted.jype.system.JTypeSystem;
+
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A {@link Binding} which claims targets of concrete, non-generic application classes, and builds them recursively
+ * through a {@link ReflectionInjector} within the current {@link InjectionSession}. Classes loaded by the bootstrap or
+ * platform class loaders, such as {@link String}, are never claimed, and neither are classes without an applicable
+ * injection constructor. A class whose plan is being computed on the current thread is claimed, so that dependency
+ * cycles are reported when the class is built.
+ */
+class GraphBinding implements Binding {
+    private static final ThreadLocal<Set<Class<?>>> PLANNING = ThreadLocal.withInitial(HashSet::new);
+
+    private final ReflectionInjector injector;
+
+    /**
+     * Creates a new {@link GraphBinding}
+     *
+     * @param injector The injector to build claimed targets with
+     */
+    GraphBinding(ReflectionInjector injector) {
+        this.injector = injector;
+    }
+
+    @Override
+    public boolean claims(JTypeSystem system, InjectionTarget target) {
+        Class<?> type = target.plainType();
+        if (!isConstructible(type)) {
+            return false;
+        }
+
+        Set<Class<?>> planning = PLANNING.get();
+        if (!planning.add(type)) {
+            return true;
+        }
+        try {
+            return this.injector.plan(type).constructor() != null;
+        } finally {
+            planning.remove(type);
+        }
+    }
+
+    @Override
+    public InjectionResult handle(JTypeSystem system, InjectionTarget target) {
+        Class<?> type = target.plainType();
+        if (!isConstructible(type) || this.injector.plan(type).constructor() == null) {
+            return InjectionResult.ignore();
+        }
+
+        return InjectionResult.of(InjectionSession.run(() -> InjectionSession.current().resolve(type, this.injector::build)));
+    }
+
+    static boolean isConstructible(Class<?> type) {
+        if (type == null || type.isPrimitive() || type.isArray() || type.isInterface() || type.isEnum() ||
+                type.isAnonymousClass() || type.isLocalClass() || Modifier.isAbstract(type.getModifiers()) ||
+                (type.isMemberClass() && !Modifier.isStatic(type.getModifiers()))) {
+            return false;
+        }
+
+        ClassLoader loader = type.getClassLoader();
+        return loader != null && loader != ClassLoader.getPlatformClassLoader();
+    }
+
+}
@@ -0,0 +1,158 @@
+package honeyroasted.fill.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A {@link MemberAccess} implementation which resolves members to {@link VarHandle}s and spread {@link MethodHandle}s,
+ * adapted to erased signatures so they may be called with {@link MethodHandle#invokeExact(Object...)}
+ */
+class HandleMemberAccess implements MemberAccess {
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType INVOKER = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final MethodHandles.Lookup lookup;
+
+    HandleMemberAccess(MethodHandles.Lookup lookup) {
+        this.lookup = lookup;
+    }
+
+    @Override
+    public FieldAccessor field(Field field) throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = privateLookup(field.getDeclaringClass());
+        MethodHandle getter;
+        MethodHandle setter;
+        if (lookup == null) {
+            //VarHandles always check access, but unreflected getters and setters honor an accessible field
+            field.trySetAccessible();
+            getter = this.lookup.unreflectGetter(field);
+            setter = this.lookup.unreflectSetter(field);
+        } else {
+            VarHandle handle = lookup.unreflectVarHandle(field);
+            getter = handle.toMethodHandle(VarHandle.AccessMode.GET);
+            if (Modifier.isFinal(field.getModifiers())) {
+                //VarHandles are read-only for final fields, but a setter may still be unreflected from an accessible field
+                field.trySetAccessible();
+                setter = lookup.unreflectSetter(field);
+            } else {
+                setter = handle.toMethodHandle(VarHandle.AccessMode.SET);
+            }
+        }
+
+        if (Modifier.isStatic(field.getModifiers())) {
+            getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            setter = MethodHandles.dropArguments(setter, 0, Object.class);
+        }
+
+        Class<?> type = field.getType();
+        if (type == int.class || type == long.class || type == double.class) {
+            return new HandlePrimitiveFieldAccessor(getter.asType(GETTER), setter.asType(SETTER),
+                    getter.asType(MethodType.methodType(type, Object.class)), setter.asType(MethodType.methodType(void.class, Object.class, type)));
+        }
+        return new HandleFieldAccessor(getter.asType(GETTER), setter.asType(SETTER));
+    }
+
+    @Override
+    public Invoker method(Method method) throws ReflectiveOperationException {
+        MethodHandle handle = lookupFor(method.getDeclaringClass(), method).unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return new HandleInvoker(handle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER));
+    }
+
+    @Override
+    public Invoker constructor(Constructor<?> constructor) throws ReflectiveOperationException {
+        MethodHandle handle = lookupFor(constructor.getDeclaringClass(), constructor).unreflectConstructor(constructor);
+        handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        return new HandleInvoker(handle.asSpreader(Object[].class, constructor.getParameterCount()).asType(INVOKER));
+    }
+
+    private MethodHandles.Lookup lookupFor(Class<?> declaring, AccessibleObject member) {
+        MethodHandles.Lookup lookup = privateLookup(declaring);
+        if (lookup == null) {
+            //Unreflecting an accessible member suppresses access checks
+            member.trySetAccessible();
+            return this.lookup;
+        }
+        return lookup;
+    }
+
+    private MethodHandles.Lookup privateLookup(Class<?> declaring) {
+        try {
+            return MethodHandles.privateLookupIn(declaring, this.lookup);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private record HandleFieldAccessor(MethodHandle getter, MethodHandle setter) implements FieldAccessor {
+        @Override
+        public Object get(Object instance) throws Throwable {
+            return (Object) this.getter.invokeExact(instance);
+        }
+
+        @Override
+        public void set(Object instance, Object value) throws Throwable {
+            this.setter.invokeExact(instance, value);
+        }
+    }
+
+    //Each primitive accessor method is only called for fields of its own type, matching the exact primitive handles
+    private record HandlePrimitiveFieldAccessor(MethodHandle getter, MethodHandle setter, MethodHandle primitiveGetter, MethodHandle primitiveSetter) implements FieldAccessor {
+        @Override
+        public Object get(Object instance) throws Throwable {
+            return (Object) this.getter.invokeExact(instance);
+        }
+
+        @Override
+        public void set(Object instance, Object value) throws Throwable {
+            this.setter.invokeExact(instance, value);
+        }
+
+        @Override
+        public int getInt(Object instance) throws Throwable {
+            return (int) this.primitiveGetter.invokeExact(instance);
+        }
+
+        @Override
+        public void setInt(Object instance, int value) throws Throwable {
+            this.primitiveSetter.invokeExact(instance, value);
+        }
+
+        @Override
+        public long getLong(Object instance) throws Throwable {
+            return (long) this.primitiveGetter.invokeExact(instance);
+        }
+
+        @Override
+        public void setLong(Object instance, long value) throws Throwable {
+            this.primitiveSetter.invokeExact(instance, value);
+        }
+
+        @Override
+        public double getDouble(Object instance) throws Throwable {
+            return (double) this.primitiveGetter.invokeExact(instance);
+        }
+
+        @Override
+        public void setDouble(Object instance, double value) throws Throwable {
+            this.primitiveSetter.invokeExact(instance, value);
+        }
+    }
+
+    private record HandleInvoker(MethodHandle handle) implements Invoker {
+        @Override
+        public Object invoke(Object instance, Object[] args) throws Throwable {
+            return (Object) this.handle.invokeExact(instance, args);
+        }
+    }
+}
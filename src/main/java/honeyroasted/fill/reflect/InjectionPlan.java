@@ -0,0 +1,187 @@
+package honeyroasted.fill.reflect;
+
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.bindings.Binding;
+import honeyroasted.fill.bindings.PrimitiveBinding;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * An immutable description of how a {@link ReflectionInjector} injects into a given {@link Class}. A plan contains the
+ * members produced by the injector's aggregators, split into static and instance members, along with their
+ * precomputed {@link InjectionTarget}s. Only members whose targets are all claimed by the injector's {@link Binding}
+ * are included, and the methods and constructors which were left out are recorded with their unclaimed parameters.
+ */
+public class InjectionPlan {
+    private final Class<?> type;
+    private final List<FieldEntry> instanceFields;
+    private final List<FieldEntry> staticFields;
+    private final List<MethodEntry> instanceMethods;
+    private final List<MethodEntry> staticMethods;
+    private final List<ConstructorEntry> constructors;
+    private final ConstructorEntry constructor;
+    private final List<UnclaimedEntry> unclaimed;
+
+    /**
+     * Creates a new {@link InjectionPlan}
+     *
+     * @param type            The planned class
+     * @param instanceFields  The claimed instance fields
+     * @param staticFields    The claimed static fields
+     * @param instanceMethods The claimed instance methods
+     * @param staticMethods   The claimed static methods
+     * @param constructors    The constructors whose parameters are all claimed
+     */
+    public InjectionPlan(Class<?> type, List<FieldEntry> instanceFields, List<FieldEntry> staticFields, List<MethodEntry> instanceMethods, List<MethodEntry> staticMethods, List<ConstructorEntry> constructors) {
+        this(type, instanceFields, staticFields, instanceMethods, staticMethods, constructors, List.of());
+    }
+
+    /**
+     * Creates a new {@link InjectionPlan}
+     *
+     * @param type            The planned class
+     * @param instanceFields  The claimed instance fields
+     * @param staticFields    The claimed static fields
+     * @param instanceMethods The claimed instance methods
+     * @param staticMethods   The claimed static methods
+     * @param constructors    The constructors whose parameters are all claimed
+     * @param unclaimed       The methods and constructors which were left out because some of their parameters are not claimed
+     */
+    public InjectionPlan(Class<?> type, List<FieldEntry> instanceFields, List<FieldEntry> staticFields, List<MethodEntry> instanceMethods, List<MethodEntry> staticMethods, List<ConstructorEntry> constructors, List<UnclaimedEntry> unclaimed) {
+        this.type = type;
+        this.instanceFields = List.copyOf(instanceFields);
+        this.staticFields = List.copyOf(staticFields);
+        this.instanceMethods = List.copyOf(instanceMethods);
+        this.staticMethods = List.copyOf(staticMethods);
+        this.constructors = List.copyOf(constructors);
+        this.constructor = widest(this.constructors);
+        this.unclaimed = List.copyOf(unclaimed);
+    }
+
+    /**
+     * @return The class this plan was computed for
+     */
+    public Class<?> type() {
+        return this.type;
+    }
+
+    /**
+     * @return The claimed instance fields of the planned class
+     */
+    public List<FieldEntry> instanceFields() {
+        return this.instanceFields;
+    }
+
+    /**
+     * @return The claimed static fields of the planned class
+     */
+    public List<FieldEntry> staticFields() {
+        return this.staticFields;
+    }
+
+    /**
+     * @return The claimed instance methods of the planned class
+     */
+    public List<MethodEntry> instanceMethods() {
+        return this.instanceMethods;
+    }
+
+    /**
+     * @return The claimed static methods of the planned class
+     */
+    public List<MethodEntry> staticMethods() {
+        return this.staticMethods;
+    }
+
+    /**
+     * @return The constructors of the planned class whose parameters are all claimed
+     */
+    public List<ConstructorEntry> constructors() {
+        return this.constructors;
+    }
+
+    /**
+     * @return The constructor used to create instances of the planned class, which is the first of the
+     * {@link #constructors()} with the most parameters, or null if the class has no constructor whose parameters are
+     * all claimed
+     */
+    public ConstructorEntry constructor() {
+        return this.constructor;
+    }
+
+    /**
+     * @return The methods and constructors of the planned class which were left out because some of their parameters are
+     * not claimed
+     */
+    public List<UnclaimedEntry> unclaimed() {
+        return this.unclaimed;
+    }
+
+    private static ConstructorEntry widest(List<ConstructorEntry> constructors) {
+        ConstructorEntry max = null;
+        for (ConstructorEntry entry : constructors) {
+            if (max == null || max.targets().size() < entry.targets().size()) {
+                max = entry;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * A planned field injection
+     *
+     * @param field     The field to inject
+     * @param target    The {@link InjectionTarget} of the field
+     * @param accessor  The resolved accessor for the field
+     * @param primitive The {@link PrimitiveBinding} whose values are written to the field without boxing, or null if
+     *                  the field is injected with boxed values
+     */
+    public record FieldEntry(Field field, InjectionTarget target, MemberAccess.FieldAccessor accessor, PrimitiveBinding primitive) {
+
+        /**
+         * Creates a new {@link FieldEntry} which is injected with boxed values
+         *
+         * @param field    The field to inject
+         * @param target   The {@link InjectionTarget} of the field
+         * @param accessor The resolved accessor for the field
+         */
+        public FieldEntry(Field field, InjectionTarget target, MemberAccess.FieldAccessor accessor) {
+            this(field, target, accessor, null);
+        }
+
+    }
+
+    /**
+     * A planned method injection
+     *
+     * @param method  The method to invoke
+     * @param targets The {@link InjectionTarget}s of the method's parameters
+     * @param invoker The resolved invoker for the method
+     */
+    public record MethodEntry(Method method, List<InjectionTarget> targets, MemberAccess.Invoker invoker) {
+    }
+
+    /**
+     * A planned constructor injection
+     *
+     * @param constructor The constructor to invoke
+     * @param targets     The {@link InjectionTarget}s of the constructor's parameters
+     * @param invoker     The resolved invoker for the constructor
+     */
+    public record ConstructorEntry(Constructor<?> constructor, List<InjectionTarget> targets, MemberAccess.Invoker invoker) {
+    }
+
+    /**
+     * A method or constructor which was left out of the plan
+     *
+     * @param executable The method or constructor
+     * @param targets    The {@link InjectionTarget}s of the parameters which are not claimed
+     */
+    public record UnclaimedEntry(Executable executable, List<InjectionTarget> targets) {
+    }
+
+}
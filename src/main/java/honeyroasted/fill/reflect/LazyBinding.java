@@ -0,0 +1,165 @@
+package honeyroasted.fill.reflect;
+
+import honeyroasted.fill.InjectionException;
+import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.Lazy;
+import honeyroasted.fill.Provider;
+import honeyroasted.fill.bindings.Binding;
+import honeyroasted.jype.system.JTypeSystem;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Binding} which defers resolution of a target until it is used. It claims two kinds of targets:
+ * <ul>
+ *     <li>Targets of type {@link Supplier} or {@link Provider} which the eager bindings of a {@link ReflectionInjector}
+ *     do not claim, but whose provided type they do claim. These are injected with a {@link Provider} which resolves
+ *     the provided type on its first call.</li>
+ *     <li>Interface typed targets annotated with {@link Lazy}, which the eager bindings claim. These are injected with a
+ *     proxy which resolves the target on its first method call.</li>
+ * </ul>
+ */
+class LazyBinding implements Binding {
+    private final ReflectionInjector injector;
+
+    private final ClassValue<Map<InjectionTarget, InjectionTarget>> provided = new ClassValue<>() {
+        @Override
+        protected Map<InjectionTarget, InjectionTarget> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Creates a new {@link LazyBinding}
+     *
+     * @param injector The injector whose eager bindings resolve deferred targets
+     */
+    LazyBinding(ReflectionInjector injector) {
+        this.injector = injector;
+    }
+
+    @Override
+    public boolean claims(JTypeSystem system, InjectionTarget target) {
+        Binding eager = this.injector.eager();
+        if (isLazyProxy(target)) {
+            return eager.claims(system, target);
+        } else if (target.rawType() == Supplier.class || target.rawType() == Provider.class) {
+            InjectionTarget provided = provided(system, target);
+            return provided != null && !eager.claims(system, target) && eager.claims(system, provided);
+        }
+        return false;
+    }
+
+    @Override
+    public InjectionResult handle(JTypeSystem system, InjectionTarget target) {
+        Binding eager = this.injector.eager();
+        if (isLazyProxy(target)) {
+            LazyValue value = new LazyValue(eager, system, target);
+            return InjectionResult.of(Proxy.newProxyInstance(target.rawType().getClassLoader(), new Class<?>[]{target.rawType()}, value));
+        }
+
+        InjectionTarget provided = provided(system, target);
+        return provided == null ? InjectionResult.ignore() : InjectionResult.of(new LazyValue(eager, system, provided));
+    }
+
+    private static boolean isLazyProxy(InjectionTarget target) {
+        return target.rawType() != null && target.rawType().isInterface() && target.has(Lazy.class);
+    }
+
+    //Derives the target for the type provided by a Supplier or Provider target, such as String for Supplier<String>
+    private InjectionTarget provided(JTypeSystem system, InjectionTarget target) {
+        AnnotatedElement element = target.element();
+        if (element instanceof Field field) {
+            return this.provided.get(field.getDeclaringClass()).computeIfAbsent(target, t -> deriveProvided(system, t, field.getGenericType()));
+        } else if (element instanceof Parameter parameter) {
+            return this.provided.get(parameter.getDeclaringExecutable().getDeclaringClass()).computeIfAbsent(target, t -> deriveProvided(system, t, parameter.getParameterizedType()));
+        }
+        return null;
+    }
+
+    private static InjectionTarget deriveProvided(JTypeSystem system, InjectionTarget target, Type type) {
+        if (type instanceof ParameterizedType parameterized) {
+            Type argument = parameterized.getActualTypeArguments()[0];
+            if (argument instanceof WildcardType wildcard) {
+                argument = wildcard.getUpperBounds()[0];
+            }
+
+            Class<?> raw = argument instanceof Class<?> cls ? cls :
+                    argument instanceof ParameterizedType param && param.getRawType() instanceof Class<?> cls ? cls : null;
+
+            //Nested handles would share their element and raw type with the outer target, so they are not derived
+            if (raw != null && raw != Supplier.class && raw != Provider.class) {
+                return new InjectionTarget(target.name(), system.tryResolve(argument), raw, target.annotations(), target.element());
+            }
+        }
+        return null;
+    }
+
+    //Resolves a target on first use, then returns the same value. Also serves as the invocation handler of lazy proxies
+    private static class LazyValue implements Provider<Object>, InvocationHandler {
+        private final Binding binding;
+        private final JTypeSystem system;
+        private final InjectionTarget target;
+
+        //The value is published by the write to resolved, as a resolved value may be null
+        private Object value;
+        private volatile boolean resolved;
+
+        LazyValue(Binding binding, JTypeSystem system, InjectionTarget target) {
+            this.binding = binding;
+            this.system = system;
+            this.target = target;
+        }
+
+        @Override
+        public Object get() {
+            if (!this.resolved) {
+                synchronized (this) {
+                    if (!this.resolved) {
+                        InjectionResult result = this.binding.handle(this.system, this.target);
+                        if (result.type() == InjectionResult.Type.ERROR) {
+                            throw new InjectionException(String.valueOf(result.value()));
+                        }
+                        this.value = result.type() == InjectionResult.Type.SET ? result.value() : null;
+                        this.resolved = true;
+                    }
+                }
+            }
+            return this.value;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object value = get();
+            if (value == null) {
+                throw new InjectionException("Lazy target " + this.target.name() + " resolved to no value");
+            }
+
+            try {
+                try {
+                    return method.invoke(value, args);
+                } catch (IllegalAccessException e) {
+                    //The proxied interface may not be public, proxies share their Method instances so this happens once
+                    if (!method.trySetAccessible()) throw e;
+                    return method.invoke(value, args);
+                }
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+}
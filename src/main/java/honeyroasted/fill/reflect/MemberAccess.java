@@ -0,0 +1,189 @@
+package honeyroasted.fill.reflect;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * A strategy used by a {@link ReflectionInjector} to read and write fields, and to invoke methods and constructors.
+ * Each member is resolved once, when the {@link InjectionPlan} for its class is computed, and the resulting accessor
+ * is reused for every injection.
+ */
+public interface MemberAccess {
+
+    /**
+     * Resolves an accessor for the given field
+     *
+     * @param field The field
+     * @return A new {@link FieldAccessor}
+     * @throws ReflectiveOperationException If the field cannot be accessed
+     */
+    FieldAccessor field(Field field) throws ReflectiveOperationException;
+
+    /**
+     * Resolves an invoker for the given method
+     *
+     * @param method The method
+     * @return A new {@link Invoker}
+     * @throws ReflectiveOperationException If the method cannot be accessed
+     */
+    Invoker method(Method method) throws ReflectiveOperationException;
+
+    /**
+     * Resolves an invoker for the given constructor. The instance passed to the resulting {@link Invoker} is ignored,
+     * and the invoker returns the newly constructed object.
+     *
+     * @param constructor The constructor
+     * @return A new {@link Invoker}
+     * @throws ReflectiveOperationException If the constructor cannot be accessed
+     */
+    Invoker constructor(Constructor<?> constructor) throws ReflectiveOperationException;
+
+    /**
+     * @return A {@link MemberAccess} which uses core reflection, making members accessible with
+     * {@link java.lang.reflect.AccessibleObject#trySetAccessible()}
+     */
+    static MemberAccess reflection() {
+        return ReflectionMemberAccess.INSTANCE;
+    }
+
+    /**
+     * Creates a {@link MemberAccess} which resolves members to {@link java.lang.invoke.VarHandle}s and spread
+     * {@link java.lang.invoke.MethodHandle}s. Private members are reached through
+     * {@link MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)} with the given lookup, falling back to
+     * {@link java.lang.reflect.AccessibleObject#trySetAccessible()} if a private lookup cannot be obtained.
+     *
+     * @param lookup The lookup to resolve members with
+     * @return A new {@link MemberAccess}
+     */
+    static MemberAccess handles(MethodHandles.Lookup lookup) {
+        return new HandleMemberAccess(lookup);
+    }
+
+    /**
+     * Creates a {@link MemberAccess} which generates a hidden nestmate class for each declaring class, using the
+     * ClassFile API, with straight-line field loads and stores, method calls and constructor invocations. Hidden
+     * classes are defined through a {@link MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)} with the given
+     * lookup. Members which cannot be reached from generated code, such as final fields, or classes for which no
+     * hidden class can be defined, fall back to {@link #handles(MethodHandles.Lookup)}.
+     *
+     * @param lookup The lookup to define hidden classes with
+     * @return A new {@link MemberAccess}
+     */
+    static MemberAccess generated(MethodHandles.Lookup lookup) {
+        return new ClassFileMemberAccess(lookup, handles(lookup));
+    }
+
+    /**
+     * Reads and writes a single resolved field
+     */
+    interface FieldAccessor {
+
+        /**
+         * Reads the field
+         *
+         * @param instance The instance to read from, or null for static fields
+         * @return The value of the field
+         * @throws Throwable If reading the field fails
+         */
+        Object get(Object instance) throws Throwable;
+
+        /**
+         * Writes the field
+         *
+         * @param instance The instance to write to, or null for static fields
+         * @param value    The value to write
+         * @throws Throwable If writing the field fails
+         */
+        void set(Object instance, Object value) throws Throwable;
+
+        /**
+         * Reads a field of the type {@code int}. By default, this unboxes the result of {@link #get(Object)}.
+         *
+         * @param instance The instance to read from, or null for static fields
+         * @return The value of the field
+         * @throws Throwable If reading the field fails
+         */
+        default int getInt(Object instance) throws Throwable {
+            return (Integer) get(instance);
+        }
+
+        /**
+         * Writes a field of the type {@code int}. By default, this boxes the value and passes it to
+         * {@link #set(Object, Object)}.
+         *
+         * @param instance The instance to write to, or null for static fields
+         * @param value    The value to write
+         * @throws Throwable If writing the field fails
+         */
+        default void setInt(Object instance, int value) throws Throwable {
+            set(instance, value);
+        }
+
+        /**
+         * Reads a field of the type {@code long}. By default, this unboxes the result of {@link #get(Object)}.
+         *
+         * @param instance The instance to read from, or null for static fields
+         * @return The value of the field
+         * @throws Throwable If reading the field fails
+         */
+        default long getLong(Object instance) throws Throwable {
+            return (Long) get(instance);
+        }
+
+        /**
+         * Writes a field of the type {@code long}. By default, this boxes the value and passes it to
+         * {@link #set(Object, Object)}.
+         *
+         * @param instance The instance to write to, or null for static fields
+         * @param value    The value to write
+         * @throws Throwable If writing the field fails
+         */
+        default void setLong(Object instance, long value) throws Throwable {
+            set(instance, value);
+        }
+
+        /**
+         * Reads a field of the type {@code double}. By default, this unboxes the result of {@link #get(Object)}.
+         *
+         * @param instance The instance to read from, or null for static fields
+         * @return The value of the field
+         * @throws Throwable If reading the field fails
+         */
+        default double getDouble(Object instance) throws Throwable {
+            return (Double) get(instance);
+        }
+
+        /**
+         * Writes a field of the type {@code double}. By default, this boxes the value and passes it to
+         * {@link #set(Object, Object)}.
+         *
+         * @param instance The instance to write to, or null for static fields
+         * @param value    The value to write
+         * @throws Throwable If writing the field fails
+         */
+        default void setDouble(Object instance, double value) throws Throwable {
+            set(instance, value);
+        }
+
+    }
+
+    /**
+     * Invokes a single resolved method or constructor
+     */
+    interface Invoker {
+
+        /**
+         * Invokes the method or constructor
+         *
+         * @param instance The receiver, or null for static methods and constructors
+         * @param args     The arguments
+         * @return The result of the invocation, or null for void methods
+         * @throws Throwable If the invocation fails
+         */
+        Object invoke(Object instance, Object[] args) throws Throwable;
+
+    }
+
+}
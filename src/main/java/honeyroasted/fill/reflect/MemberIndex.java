@@ -0,0 +1,68 @@
+package honeyroasted.fill.reflect;
+
+/**
+ * A precomputed description of the injectable members of a single class, as they would be produced by
+ * {@link Aggregators#ANNOTATED_FIELDS}, {@link Aggregators#ANNOTATED_METHODS} and {@link Aggregators#ANNOTATED_CONSTRUCTORS}.
+ * Implementations are usually generated at compile time by the Fill annotation processor and discovered through
+ * {@link java.util.ServiceLoader}; see {@link MemberIndexes}. Members are described by name so that indices never need
+ * to scan annotations at runtime.
+ */
+public interface MemberIndex {
+
+    /**
+     * @return The binary name of the indexed class
+     */
+    String type();
+
+    /**
+     * Describes the injectable members of the indexed class to the given sink, in aggregation order
+     *
+     * @param sink The sink to describe members to
+     */
+    void describe(Sink sink);
+
+    /**
+     * Returns the fingerprint of the indexed class when this index was written, as computed by
+     * {@link MemberIndexFile#fingerprint(Class)}. An index whose fingerprint no longer matches the class is stale, and
+     * the class is scanned instead. By default, this returns 0, and the index is trusted as long as its members resolve.
+     *
+     * @return The fingerprint of the indexed class, or 0 if this index has no fingerprint
+     */
+    default long fingerprint() {
+        return 0;
+    }
+
+    /**
+     * Receives member descriptions from a {@link MemberIndex}. All class names are binary names, as accepted by
+     * {@link Class#forName(String)}, or primitive type names.
+     */
+    interface Sink {
+
+        /**
+         * Describes an injectable field
+         *
+         * @param declaringClass The class declaring the field
+         * @param name           The name of the field
+         */
+        void field(String declaringClass, String name);
+
+        /**
+         * Describes an injectable method
+         *
+         * @param declaringClass The class declaring the method
+         * @param name           The name of the method
+         * @param parameterTypes The parameter types of the method
+         */
+        void method(String declaringClass, String name, String... parameterTypes);
+
+        /**
+         * Describes an injectable constructor
+         *
+         * @param declaringClass The class declaring the constructor
+         * @param parameterTypes The parameter types of the constructor
+         */
+        void constructor(String declaringClass, String... parameterTypes);
+
+    }
+
+}
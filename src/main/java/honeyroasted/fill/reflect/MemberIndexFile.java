@@ -0,0 +1,400 @@
+package honeyroasted.fill.reflect;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes binary files of {@link MemberIndex}es, so that the injectable members of classes can be recorded at
+ * build time and read at startup without scanning annotations. Files are read through a memory-mapped buffer, and each
+ * class is only decoded when it is first aggregated. Files named {@link #RESOURCE} on the class path are read by
+ * {@link MemberIndexes#load(ClassLoader)}.
+ * <p>
+ * A file starts with a header of its magic number, format version, string count, class count and string data length,
+ * followed by the offsets of each string, the type name, member offset and {@link #fingerprint(Class) fingerprint} of
+ * each class, the UTF-8 string data, and the member data. Each class's members are a count followed by, for each member, its kind, the index of its declaring
+ * class name, and the indices of its name and parameter type names where applicable.
+ */
+public final class MemberIndexFile {
+    /**
+     * The class path resource read by {@link MemberIndexes#load(ClassLoader)}
+     */
+    public static final String RESOURCE = "META-INF/fill/members.idx";
+
+    private static final int MAGIC = 0x46494C4C;
+    private static final short VERSION = 3;
+    private static final int HEADER_SIZE = 18;
+    private static final int CLASS_ENTRY_SIZE = 16;
+
+    private static final byte FIELD = 0;
+    private static final byte METHOD = 1;
+    private static final byte CONSTRUCTOR = 2;
+
+    //The CRC-32 of each class file, or -1 if it cannot be found, so classes shared by several fingerprints are read once
+    private static final ClassValue<Long> CHECKSUMS = new ClassValue<>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            return checksum(type);
+        }
+    };
+
+    private MemberIndexFile() {}
+
+    /**
+     * Writes an index file for the given classes. Each class is aggregated with {@link Aggregators#ANNOTATED_FIELDS},
+     * {@link Aggregators#ANNOTATED_METHODS} and {@link Aggregators#ANNOTATED_CONSTRUCTORS}, and classes without any
+     * injectable members are left out.
+     *
+     * @param file    The file to write
+     * @param classes The classes to index
+     * @throws IOException If the file cannot be written
+     */
+    public static void write(Path file, Collection<? extends Class<?>> classes) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        ByteArrayOutputStream memberBytes = new ByteArrayOutputStream();
+        DataOutputStream members = new DataOutputStream(memberBytes);
+        List<long[]> table = new ArrayList<>();
+
+        for (Class<?> cls : classes) {
+            Collection<Field> fields = Aggregators.ANNOTATED_FIELDS.apply(cls);
+            Collection<Method> methods = Aggregators.ANNOTATED_METHODS.apply(cls);
+            Collection<Constructor<?>> constructors = Aggregators.ANNOTATED_CONSTRUCTORS.apply(cls);
+            if (fields.isEmpty() && methods.isEmpty() && constructors.isEmpty()) {
+                continue;
+            }
+
+            table.add(new long[]{intern(strings, cls.getName()), members.size(), fingerprint(cls)});
+            members.writeInt(fields.size() + methods.size() + constructors.size());
+            for (Field field : fields) {
+                members.writeByte(FIELD);
+                members.writeInt(intern(strings, field.getDeclaringClass().getName()));
+                members.writeInt(intern(strings, field.getName()));
+            }
+            for (Method method : methods) {
+                members.writeByte(METHOD);
+                members.writeInt(intern(strings, method.getDeclaringClass().getName()));
+                members.writeInt(intern(strings, method.getName()));
+                writeParameters(members, strings, method.getParameterTypes());
+            }
+            for (Constructor<?> constructor : constructors) {
+                members.writeByte(CONSTRUCTOR);
+                members.writeInt(intern(strings, constructor.getDeclaringClass().getName()));
+                writeParameters(members, strings, constructor.getParameterTypes());
+            }
+        }
+
+        ByteArrayOutputStream stringData = new ByteArrayOutputStream();
+        List<Integer> stringOffsets = new ArrayList<>();
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            stringOffsets.add(stringData.size());
+            stringData.write(bytes.length >>> 8);
+            stringData.write(bytes.length);
+            stringData.write(bytes);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeInt(strings.size());
+        out.writeInt(table.size());
+        out.writeInt(stringData.size());
+        for (int offset : stringOffsets) {
+            out.writeInt(offset);
+        }
+        for (long[] entry : table) {
+            out.writeInt((int) entry[0]);
+            out.writeInt((int) entry[1]);
+            out.writeLong(entry[2]);
+        }
+        stringData.writeTo(out);
+        memberBytes.writeTo(out);
+        out.flush();
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, bytes.toByteArray());
+    }
+
+    /**
+     * Reads the indices in the given file through a memory-mapped buffer
+     *
+     * @param file The file to read
+     * @return The indices in the file
+     * @throws IOException If the file cannot be read, or is not an index file of a supported version
+     */
+    public static List<MemberIndex> read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads the indices in the file at the given URL. Files on the file system are memory-mapped, and other files,
+     * such as entries of jar files, are read into memory.
+     *
+     * @param url The URL of the file
+     * @return The indices in the file
+     * @throws IOException If the file cannot be read, or is not an index file of a supported version
+     */
+    public static List<MemberIndex> read(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return read(Path.of(url.toURI()));
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                //Fall back to reading the stream
+            }
+        }
+
+        try (InputStream stream = url.openStream()) {
+            return read(ByteBuffer.wrap(stream.readAllBytes()));
+        }
+    }
+
+    /**
+     * Reads the indices in the given buffer. The buffer is read with absolute operations, and is not modified.
+     *
+     * @param buffer The buffer to read
+     * @return The indices in the buffer
+     * @throws IOException If the buffer does not hold an index file of a supported version
+     */
+    public static List<MemberIndex> read(ByteBuffer buffer) throws IOException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a Fill member index file");
+        } else if (buffer.getShort(4) != VERSION) {
+            throw new IOException("Unsupported Fill member index version " + buffer.getShort(4));
+        }
+
+        int stringCount = buffer.getInt(6);
+        int classCount = buffer.getInt(10);
+        int stringLength = buffer.getInt(14);
+        if (stringCount < 0 || classCount < 0 || stringLength < 0 ||
+                HEADER_SIZE + stringCount * 4L + classCount * (long) CLASS_ENTRY_SIZE + stringLength > buffer.limit()) {
+            throw new IOException("Truncated Fill member index file");
+        }
+
+        Strings strings = new Strings(buffer, stringCount, classCount);
+        int memberBase = strings.base + stringLength;
+        List<MemberIndex> indices = new ArrayList<>(classCount);
+        for (int i = 0; i < classCount; i++) {
+            int entry = strings.classTable + i * CLASS_ENTRY_SIZE;
+            indices.add(new FileIndex(strings.get(buffer.getInt(entry)), buffer, strings, memberBase + buffer.getInt(entry + 4), buffer.getLong(entry + 8)));
+        }
+        return indices;
+    }
+
+    /**
+     * Writes an index file for the classes in the given directories. This is the entry point of the build-time index
+     * task, and expects the directories to be on its class path.
+     *
+     * @param args The file to write, followed by the class directories to index
+     * @throws IOException If a directory cannot be walked or the file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Usage: MemberIndexFile <output file> <class directories...>");
+        }
+
+        List<Class<?>> classes = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            Path root = Path.of(args[i]);
+            if (!Files.isDirectory(root)) continue;
+
+            try (Stream<Path> files = Files.walk(root)) {
+                for (Path path : (Iterable<Path>) files.filter(p -> p.toString().endsWith(".class"))::iterator) {
+                    String name = root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), ".");
+                    name = name.substring(0, name.length() - ".class".length());
+                    if (name.endsWith("module-info") || name.endsWith("package-info")) continue;
+
+                    try {
+                        classes.add(Class.forName(name, false, MemberIndexFile.class.getClassLoader()));
+                    } catch (ClassNotFoundException | LinkageError e) {
+                        //Classes which cannot be loaded are scanned at runtime instead
+                    }
+                }
+            }
+        }
+        write(Path.of(args[0]), classes);
+    }
+
+    /**
+     * Computes the fingerprint of a class, a combination of the CRC-32 checksums of the class files of the class and
+     * each of its superclasses which is not loaded by the bootstrap class loader. Any change to those class files, such
+     * as an injectable member being added, changes the fingerprint.
+     * <p>
+     * The checksum of a class file in a jar is read from the jar's central directory, so the class file is not read or
+     * inflated. Other class files are read once. Either way, the checksum of each class is computed at most once.
+     *
+     * @param cls The class
+     * @return The fingerprint of the class, or 0 if a class file cannot be found
+     */
+    public static long fingerprint(Class<?> cls) {
+        long fingerprint = 1;
+        for (Class<?> current = cls; current != null && current.getClassLoader() != null; current = current.getSuperclass()) {
+            long checksum = CHECKSUMS.get(current);
+            if (checksum < 0) {
+                return 0;
+            }
+            fingerprint = fingerprint * 31 + checksum;
+        }
+        //Valid fingerprints are kept distinct from 0
+        return fingerprint == 0 ? 1 : fingerprint;
+    }
+
+    private static long checksum(Class<?> cls) {
+        String name = cls.getName();
+        URL url = cls.getResource(name.substring(name.lastIndexOf('.') + 1) + ".class");
+        if (url == null) {
+            return -1;
+        }
+
+        try {
+            URLConnection connection = url.openConnection();
+            if (connection instanceof JarURLConnection jar) {
+                JarEntry entry = jar.getJarEntry();
+                if (entry != null && entry.getCrc() != -1) {
+                    return entry.getCrc();
+                }
+            }
+
+            CRC32 checksum = new CRC32();
+            try (InputStream stream = connection.getInputStream()) {
+                checksum.update(stream.readAllBytes());
+            }
+            return checksum.getValue();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static int intern(Map<String, Integer> strings, String string) {
+        return strings.computeIfAbsent(string, k -> strings.size());
+    }
+
+    private static void writeParameters(DataOutputStream out, Map<String, Integer> strings, Class<?>[] types) throws IOException {
+        out.writeByte(types.length);
+        for (Class<?> type : types) {
+            out.writeInt(intern(strings, type.getName()));
+        }
+    }
+
+    //The string table of a file, decoding each string on first use
+    private static class Strings {
+        private final ByteBuffer buffer;
+        private final String[] decoded;
+        private final int classTable;
+        private final int base;
+
+        private Strings(ByteBuffer buffer, int count, int classes) {
+            this.buffer = buffer;
+            this.decoded = new String[count];
+            this.classTable = HEADER_SIZE + count * 4;
+            this.base = this.classTable + classes * CLASS_ENTRY_SIZE;
+        }
+
+        private String get(int index) {
+            String string = this.decoded[index];
+            if (string == null) {
+                int offset = this.base + this.buffer.getInt(HEADER_SIZE + index * 4);
+                byte[] bytes = new byte[Short.toUnsignedInt(this.buffer.getShort(offset))];
+                this.buffer.get(offset + 2, bytes);
+                string = new String(bytes, StandardCharsets.UTF_8);
+                this.decoded[index] = string;
+            }
+            return string;
+        }
+    }
+
+    private static class FileIndex implements MemberIndex {
+        private final String type;
+        private final ByteBuffer buffer;
+        private final Strings strings;
+        private final int offset;
+        private final long fingerprint;
+
+        private FileIndex(String type, ByteBuffer buffer, Strings strings, int offset, long fingerprint) {
+            this.type = type;
+            this.buffer = buffer;
+            this.strings = strings;
+            this.offset = offset;
+            this.fingerprint = fingerprint;
+        }
+
+        @Override
+        public String type() {
+            return this.type;
+        }
+
+        @Override
+        public long fingerprint() {
+            return this.fingerprint;
+        }
+
+        @Override
+        public void describe(Sink sink) {
+            int position = this.offset;
+            int count = this.buffer.getInt(position);
+            position += 4;
+
+            for (int i = 0; i < count; i++) {
+                byte kind = this.buffer.get(position);
+                String declaring = this.strings.get(this.buffer.getInt(position + 1));
+                position += 5;
+
+                if (kind == FIELD) {
+                    sink.field(declaring, this.strings.get(this.buffer.getInt(position)));
+                    position += 4;
+                } else if (kind == METHOD) {
+                    String name = this.strings.get(this.buffer.getInt(position));
+                    String[] parameters = parameters(position + 4);
+                    sink.method(declaring, name, parameters);
+                    position += 5 + parameters.length * 4;
+                } else if (kind == CONSTRUCTOR) {
+                    String[] parameters = parameters(position);
+                    sink.constructor(declaring, parameters);
+                    position += 1 + parameters.length * 4;
+                } else {
+                    throw new IndexOutOfBoundsException("Unknown member kind " + kind);
+                }
+            }
+        }
+
+        private String[] parameters(int position) {
+            String[] parameters = new String[Byte.toUnsignedInt(this.buffer.get(position))];
+            for (int i = 0; i < parameters.length; i++) {
+                parameters[i] = this.strings.get(this.buffer.getInt(position + 1 + i * 4));
+            }
+            return parameters;
+        }
+
+        @Override
+        public String toString() {
+            return "MemberIndex[" + this.type + "]";
+        }
+    }
+
+}
@@ -0,0 +1,244 @@
+package honeyroasted.fill.reflect;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A registry of {@link MemberIndex}es, which provides aggregators that resolve injectable members from an index
+ * instead of scanning classes for annotations. Classes without an index, or whose index is stale, are aggregated with a
+ * fallback aggregator instead. An index is stale if it names members which no longer resolve, or if its
+ * {@link MemberIndex#fingerprint() fingerprint} no longer matches the class, such as when an injectable member was
+ * added after the index was written.
+ */
+public class MemberIndexes {
+    private final Map<String, MemberIndex> indices = new ConcurrentHashMap<>();
+
+    private final ClassValue<Resolved> resolved = new ClassValue<>() {
+        @Override
+        protected Resolved computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    /**
+     * Creates a new {@link MemberIndexes} with the given indices
+     *
+     * @param indices The indices
+     */
+    public MemberIndexes(Collection<? extends MemberIndex> indices) {
+        indices.forEach(index -> this.indices.put(index.type(), index));
+    }
+
+    /**
+     * Creates a new {@link MemberIndexes} from all {@link MemberIndexFile#RESOURCE index files} and {@link MemberIndex}
+     * services visible to the given class loader. Services take precedence over index files for the same class, and
+     * index files which cannot be read are skipped.
+     *
+     * @param loader The class loader to load services and index files from
+     * @return A new {@link MemberIndexes}
+     */
+    public static MemberIndexes load(ClassLoader loader) {
+        List<MemberIndex> indices = new ArrayList<>();
+        try {
+            Enumeration<URL> files = loader == null ? ClassLoader.getSystemResources(MemberIndexFile.RESOURCE) : loader.getResources(MemberIndexFile.RESOURCE);
+            while (files.hasMoreElements()) {
+                try {
+                    indices.addAll(MemberIndexFile.read(files.nextElement()));
+                } catch (IOException e) {
+                    //Classes in an unreadable index file are scanned instead
+                }
+            }
+        } catch (IOException e) {
+            //Index files are an optimization, so classes are scanned instead
+        }
+
+        ServiceLoader.load(MemberIndex.class, loader).forEach(indices::add);
+        return new MemberIndexes(indices);
+    }
+
+    /**
+     * @return The {@link MemberIndexes} loaded from the class loader which loaded Fill
+     */
+    public static MemberIndexes defaults() {
+        return Defaults.INSTANCE;
+    }
+
+    /**
+     * Checks if this registry holds a valid index for the given class
+     *
+     * @param cls The class
+     * @return True if the members of the given class can be resolved from an index
+     */
+    public boolean indexes(Class<?> cls) {
+        return this.resolved.get(cls) != Resolved.NONE;
+    }
+
+    /**
+     * Creates a field aggregator backed by this registry
+     *
+     * @param fallback The aggregator to use for classes without a valid index
+     * @return A new field aggregator
+     */
+    public Function<Class<?>, Collection<Field>> fields(Function<Class<?>, Collection<Field>> fallback) {
+        return cls -> {
+            Resolved resolved = this.resolved.get(cls);
+            return resolved == Resolved.NONE ? fallback.apply(cls) : resolved.fields();
+        };
+    }
+
+    /**
+     * Creates a method aggregator backed by this registry
+     *
+     * @param fallback The aggregator to use for classes without a valid index
+     * @return A new method aggregator
+     */
+    public Function<Class<?>, Collection<Method>> methods(Function<Class<?>, Collection<Method>> fallback) {
+        return cls -> {
+            Resolved resolved = this.resolved.get(cls);
+            return resolved == Resolved.NONE ? fallback.apply(cls) : resolved.methods();
+        };
+    }
+
+    /**
+     * Creates a constructor aggregator backed by this registry
+     *
+     * @param fallback The aggregator to use for classes without a valid index
+     * @return A new constructor aggregator
+     */
+    public Function<Class<?>, Collection<Constructor<?>>> constructors(Function<Class<?>, Collection<Constructor<?>>> fallback) {
+        return cls -> {
+            Resolved resolved = this.resolved.get(cls);
+            return resolved == Resolved.NONE ? fallback.apply(cls) : resolved.constructors();
+        };
+    }
+
+    private Resolved resolve(Class<?> cls) {
+        MemberIndex index = this.indices.get(cls.getName());
+        if (index == null) {
+            return Resolved.NONE;
+        }
+
+        long fingerprint = index.fingerprint();
+        if (fingerprint != 0 && fingerprint != MemberIndexFile.fingerprint(cls)) {
+            //The class changed after the index was written, which is checked without reading class files from jars
+            return Resolved.NONE;
+        }
+
+        ResolvingSink sink = new ResolvingSink(cls);
+        try {
+            index.describe(sink);
+        } catch (StaleIndexException | LinkageError e) {
+            //The index names members which no longer exist
+            return Resolved.NONE;
+        } catch (IndexOutOfBoundsException e) {
+            //The index file is corrupt
+            return Resolved.NONE;
+        }
+        return new Resolved(List.copyOf(sink.fields), List.copyOf(sink.methods), List.copyOf(sink.constructors));
+    }
+
+    private record Resolved(Collection<Field> fields, Collection<Method> methods, Collection<Constructor<?>> constructors) {
+        private static final Resolved NONE = new Resolved(List.of(), List.of(), List.of());
+    }
+
+    private static class ResolvingSink implements MemberIndex.Sink {
+        private final Class<?> type;
+        private final Set<Field> fields = new LinkedHashSet<>();
+        private final Set<Method> methods = new LinkedHashSet<>();
+        private final Set<Constructor<?>> constructors = new LinkedHashSet<>();
+
+        private ResolvingSink(Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        public void field(String declaringClass, String name) {
+            try {
+                this.fields.add(declaring(declaringClass).getDeclaredField(name));
+            } catch (NoSuchFieldException e) {
+                throw new StaleIndexException(e);
+            }
+        }
+
+        @Override
+        public void method(String declaringClass, String name, String... parameterTypes) {
+            Class<?> declaring = declaring(declaringClass);
+            try {
+                this.methods.add(declaring.getDeclaredMethod(name, types(declaring, parameterTypes)));
+            } catch (NoSuchMethodException e) {
+                throw new StaleIndexException(e);
+            }
+        }
+
+        @Override
+        public void constructor(String declaringClass, String... parameterTypes) {
+            Class<?> declaring = declaring(declaringClass);
+            try {
+                this.constructors.add(declaring.getDeclaredConstructor(types(declaring, parameterTypes)));
+            } catch (NoSuchMethodException e) {
+                throw new StaleIndexException(e);
+            }
+        }
+
+        private Class<?> declaring(String name) {
+            for (Class<?> cls = this.type; cls != null; cls = cls.getSuperclass()) {
+                if (cls.getName().equals(name)) {
+                    return cls;
+                }
+            }
+            return type(this.type, name);
+        }
+
+        private static Class<?>[] types(Class<?> declaring, String[] names) {
+            Class<?>[] types = new Class<?>[names.length];
+            for (int i = 0; i < names.length; i++) {
+                types[i] = type(declaring, names[i]);
+            }
+            return types;
+        }
+
+        private static Class<?> type(Class<?> context, String name) {
+            return switch (name) {
+                case "boolean" -> boolean.class;
+                case "byte" -> byte.class;
+                case "short" -> short.class;
+                case "char" -> char.class;
+                case "int" -> int.class;
+                case "long" -> long.class;
+                case "float" -> float.class;
+                case "double" -> double.class;
+                default -> {
+                    try {
+                        yield Class.forName(name, false, context.getClassLoader());
+                    } catch (ClassNotFoundException e) {
+                        throw new StaleIndexException(e);
+                    }
+                }
+            };
+        }
+    }
+
+    private static class StaleIndexException extends RuntimeException {
+        private StaleIndexException(ReflectiveOperationException cause) {
+            super(cause);
+        }
+    }
+
+    private static class Defaults {
+        private static final MemberIndexes INSTANCE = load(MemberIndexes.class.getClassLoader());
+    }
+
+}
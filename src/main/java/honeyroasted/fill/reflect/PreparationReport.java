@@ -0,0 +1,128 @@
+package honeyroasted.fill.reflect;
+
+import honeyroasted.fill.InjectionException;
+import honeyroasted.fill.InjectionTarget;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The result of preparing a set of classes with {@link ReflectionInjector#prepare(Class[])}. It holds the plan of each
+ * class which could be planned, and a {@link Problem} for each injection method which would be skipped because some of
+ * its parameters are not claimed, for each class whose injection constructors all have unclaimed parameters, and for
+ * each class which could not be planned.
+ */
+public class PreparationReport {
+    private final List<InjectionPlan> plans;
+    private final List<Problem> problems;
+
+    /**
+     * Creates a new {@link PreparationReport}
+     *
+     * @param plans    The plans of the prepared classes
+     * @param problems The problems found while preparing the classes
+     */
+    public PreparationReport(List<InjectionPlan> plans, List<Problem> problems) {
+        this.plans = List.copyOf(plans);
+        this.problems = List.copyOf(problems);
+    }
+
+    /**
+     * Creates a {@link PreparationReport} from the given plans, with the problems of their unclaimed methods and
+     * constructors
+     *
+     * @param plans The plans of the prepared classes
+     * @return A new {@link PreparationReport}
+     */
+    public static PreparationReport of(List<InjectionPlan> plans) {
+        List<Problem> problems = new ArrayList<>();
+        for (InjectionPlan plan : plans) {
+            for (InjectionPlan.UnclaimedEntry entry : plan.unclaimed()) {
+                //An unclaimed constructor is only a problem if it leaves the class without a constructor
+                if (!(entry.executable() instanceof Constructor<?>) || plan.constructor() == null) {
+                    problems.add(new Problem(plan.type(), entry.executable(), entry.targets(), null));
+                }
+            }
+        }
+        return new PreparationReport(plans, problems);
+    }
+
+    /**
+     * Concatenates the given reports
+     *
+     * @param reports The reports
+     * @return A new {@link PreparationReport} with the plans and problems of every report, in order
+     */
+    public static PreparationReport concat(List<PreparationReport> reports) {
+        List<InjectionPlan> plans = new ArrayList<>();
+        List<Problem> problems = new ArrayList<>();
+        for (PreparationReport report : reports) {
+            plans.addAll(report.plans);
+            problems.addAll(report.problems);
+        }
+        return new PreparationReport(plans, problems);
+    }
+
+    /**
+     * @return The plans of the prepared classes which could be planned
+     */
+    public List<InjectionPlan> plans() {
+        return this.plans;
+    }
+
+    /**
+     * @return The problems found while preparing the classes
+     */
+    public List<Problem> problems() {
+        return this.problems;
+    }
+
+    /**
+     * @return True if no problems were found
+     */
+    public boolean valid() {
+        return this.problems.isEmpty();
+    }
+
+    /**
+     * Throws an {@link InjectionException} describing every problem, if any problems were found. The exceptions of
+     * classes which could not be planned are added as suppressed exceptions.
+     *
+     * @return This, for method chaining
+     */
+    public PreparationReport throwIfInvalid() {
+        if (!this.problems.isEmpty()) {
+            InjectionException exception = new InjectionException(this.problems.size() + " problem(s) found while preparing injection plans:" +
+                    this.problems.stream().map(Problem::message).collect(Collectors.joining("\n  ", "\n  ", "")));
+            this.problems.stream().filter(p -> p.exception() != null).forEach(p -> exception.addSuppressed(p.exception()));
+            throw exception;
+        }
+        return this;
+    }
+
+    /**
+     * A problem found while preparing a class
+     *
+     * @param type       The prepared class
+     * @param executable The method or constructor with unclaimed parameters, or null if the class could not be planned
+     * @param unclaimed  The {@link InjectionTarget}s of the unclaimed parameters
+     * @param exception  The exception thrown while planning the class, or null if it was planned
+     */
+    public record Problem(Class<?> type, Executable executable, List<InjectionTarget> unclaimed, RuntimeException exception) {
+
+        /**
+         * @return A description of this problem
+         */
+        public String message() {
+            if (this.exception != null) {
+                return "Could not plan " + this.type.getName() + ": " + this.exception.getMessage();
+            }
+            return (this.executable instanceof Constructor<?> ? "No injection constructor of " + this.type.getName() + " is satisfiable, " : "Injection method " + this.type.getName() + "." + this.executable.getName() + " will be skipped, ") +
+                    this.executable + " has unclaimed parameters " + this.unclaimed.stream().map(t -> t.name() + ": " + t.type()).collect(Collectors.joining(", "));
+        }
+    }
+
+}
@@ -1,37 +1,68 @@
 package honeyroasted.fill.reflect;
 
+import honeyroasted.fill.BatchInjectionResult;
 import honeyroasted.fill.InjectionException;
 import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.InjectionSession;
 import honeyroasted.fill.InjectionTarget;
 import honeyroasted.fill.Injector;
 import honeyroasted.fill.bindings.Binding;
 import honeyroasted.fill.bindings.BindingBuilder;
+import honeyroasted.fill.bindings.CompiledBinding;
+import honeyroasted.fill.bindings.IndexedBinding;
+import honeyroasted.fill.bindings.PrimitiveBinding;
+import honeyroasted.fill.bindings.SequenceBinding;
+import honeyroasted.fill.jfr.CreateEvent;
+import honeyroasted.fill.jfr.InjectEvent;
+import honeyroasted.fill.jfr.InjectStaticEvent;
+import honeyroasted.fill.jfr.ProviderEvent;
+import honeyroasted.fill.jfr.ResolveEvent;
+import honeyroasted.fill.metrics.InjectionMetrics;
 import honeyroasted.jype.system.JTypeSystem;
 
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * An {@link Injector} utilizing reflection to inject into fields, methods, and constructors
  */
 public class ReflectionInjector implements Injector<ReflectionInjector, ReflectionInjectorBuilder> {
     private Binding binding;
+    private Binding eager;
+    private Binding resolver;
+    private boolean graph;
+    private InjectionMetrics metrics;
     private JTypeSystem typeSystem;
     private BiPredicate<InjectionTarget, Object> dummyObjectMatcher;
+    private boolean defaultDummyObjectMatcher;
 
     private Function<Class<?>, Collection<Field>> fieldAggregator;
     private Function<Class<?>, Collection<Method>> methodAggregator;
     private Function<Class<?>, Collection<Constructor<?>>> constructorAggregator;
+    private MemberAccess memberAccess;
+
+    private final ClassValue<InjectionPlan> plans = new ClassValue<>() {
+        @Override
+        protected InjectionPlan computeValue(Class<?> type) {
+            return computePlan(type);
+        }
+    };
 
     /**
      * Creates a new {@link ReflectionInjector} with the given {@link Binding}
@@ -44,124 +75,517 @@ public class ReflectionInjector implements Injector<ReflectionInjector, Reflecti
      * @param constructorAggregator The function used to obtain injectable constructor candidates from a given {@link Class}
      */
     public ReflectionInjector(Binding binding, JTypeSystem system, BiPredicate<InjectionTarget, Object> dummyObjectMatcher, Function<Class<?>, Collection<Field>> fieldAggregator, Function<Class<?>, Collection<Method>> methodAggregator, Function<Class<?>, Collection<Constructor<?>>> constructorAggregator) {
+        this(binding, system, dummyObjectMatcher, fieldAggregator, methodAggregator, constructorAggregator, MemberAccess.handles(MethodHandles.lookup()), false, null);
+    }
+
+    /**
+     * Creates a new {@link ReflectionInjector} with the given {@link Binding}, and the other settings of the given
+     * builder
+     *
+     * @param binding The binding for this injector
+     * @param builder The builder to take the other settings of this injector from
+     */
+    public ReflectionInjector(Binding binding, ReflectionInjectorBuilder builder) {
+        this(binding, builder.system, builder.dummyObjectMatcher, builder.fieldAggregator, builder.methodAggregator, builder.constructorAggregator, builder.memberAccess, builder.graph, builder.metrics);
+    }
+
+    private ReflectionInjector(Binding binding, JTypeSystem system, BiPredicate<InjectionTarget, Object> dummyObjectMatcher, Function<Class<?>, Collection<Field>> fieldAggregator, Function<Class<?>, Collection<Method>> methodAggregator, Function<Class<?>, Collection<Constructor<?>>> constructorAggregator, MemberAccess memberAccess, boolean graph, InjectionMetrics metrics) {
         this.binding = binding;
+        this.graph = graph;
+        this.metrics = metrics;
+        this.eager = graph ? SequenceBinding.of(binding, new GraphBinding(this)) : binding;
+        Binding resolver = SequenceBinding.of(new LazyBinding(this), this.eager);
+        this.resolver = metrics == null ? resolver : metrics.meterTargets(resolver);
         this.typeSystem = system;
         this.dummyObjectMatcher = dummyObjectMatcher;
+        this.defaultDummyObjectMatcher = dummyObjectMatcher == ReflectionInjectorBuilder.DEFAULT_DUMMY_OBJECT_MATCHER;
         this.fieldAggregator = fieldAggregator;
         this.methodAggregator = methodAggregator;
         this.constructorAggregator = constructorAggregator;
+        this.memberAccess = memberAccess;
     }
 
     @Override
     public ReflectionInjectorBuilder toBuilder() {
         ReflectionInjectorBuilder builder = builder();
-        builder.bind(this.binding);
+        if (this.binding instanceof SequenceBinding sequence) {
+            //The children are bound again, so the builder does not wrap or meter the sequence itself
+            sequence.bindings().forEach(builder::bind);
+            builder.indexed(sequence instanceof IndexedBinding);
+            builder.compiled(sequence instanceof CompiledBinding);
+        } else {
+            builder.bind(this.binding);
+        }
+        builder.memberAccess(this.memberAccess);
+        builder.graph(this.graph);
+        builder.metrics(this.metrics);
         return builder;
     }
 
-    @Override
-    public <T> T create(Class<T> cls) {
-        List<InjectionTarget> maxTargets = null;
-        Constructor max = null;
-
-        for (Constructor constructor : this.constructorAggregator.apply(cls)) {
-            List<InjectionTarget> targets = Stream.of(constructor.getParameters()).map(p -> new InjectionTarget(this.typeSystem, p)).collect(Collectors.toList());
-            if (targets.stream().allMatch(t -> this.binding.claims(this.typeSystem, t))) {
-                if (max == null || max.getParameterCount() < constructor.getParameterCount()) {
-                    max = constructor;
-                    maxTargets = targets;
+    /**
+     * @return The {@link Binding} this injector resolves values from, not including the classes it builds in graph mode
+     */
+    public Binding binding() {
+        return this.binding;
+    }
+
+    /**
+     * @return The {@link InjectionMetrics} this injector records to, or null if it records no metrics
+     */
+    public InjectionMetrics metrics() {
+        return this.metrics;
+    }
+
+    //The bindings which resolve values immediately, excluding deferred Supplier, Provider and lazy proxy targets
+    Binding eager() {
+        return this.eager;
+    }
+
+    /**
+     * Gets the {@link InjectionPlan} for the given class, computing it if this injector has not yet planned the class.
+     * Plans are computed once per class and cached for the lifetime of this injector, so the {@link Binding} used by
+     * this injector is expected to claim targets consistently.
+     *
+     * @param cls The class to plan
+     * @return The {@link InjectionPlan} for the given class
+     */
+    public InjectionPlan plan(Class<?> cls) {
+        return this.plans.get(cls);
+    }
+
+    /**
+     * Computes the {@link InjectionPlan}s of the given classes ahead of their first injection, and checks that every
+     * parameter of their injection methods and constructors is claimed. This moves the cost of scanning and planning
+     * the classes out of their first injection.
+     *
+     * @param classes The classes to prepare
+     * @return A report of the plans and the problems found
+     */
+    public PreparationReport prepare(Class<?>... classes) {
+        return prepare(Arrays.asList(classes));
+    }
+
+    /**
+     * Computes the {@link InjectionPlan}s of the given classes, as with {@link #prepare(Class[])}
+     *
+     * @param classes The classes to prepare
+     * @return A report of the plans and the problems found
+     */
+    public PreparationReport prepare(Collection<? extends Class<?>> classes) {
+        List<PreparationReport> reports = new ArrayList<>();
+        for (Class<?> cls : classes) {
+            reports.add(prepare(cls));
+        }
+        return PreparationReport.concat(reports);
+    }
+
+    /**
+     * Computes the {@link InjectionPlan}s of the given classes, as with {@link #prepare(Class[])}, planning each class
+     * on the given {@link Executor}
+     *
+     * @param classes  The classes to prepare
+     * @param executor The executor to plan classes on
+     * @return A future which completes with a report of the plans and the problems found
+     */
+    public CompletableFuture<PreparationReport> prepare(Collection<? extends Class<?>> classes, Executor executor) {
+        List<CompletableFuture<PreparationReport>> reports = new ArrayList<>();
+        for (Class<?> cls : classes) {
+            reports.add(CompletableFuture.supplyAsync(() -> prepare(cls), executor));
+        }
+        return CompletableFuture.allOf(reports.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> PreparationReport.concat(reports.stream().map(CompletableFuture::join).toList()));
+    }
+
+    private PreparationReport prepare(Class<?> cls) {
+        try {
+            return PreparationReport.of(List.of(plan(cls)));
+        } catch (RuntimeException e) {
+            return new PreparationReport(List.of(), List.of(new PreparationReport.Problem(cls, null, List.of(), e)));
+        }
+    }
+
+    private InjectionPlan computePlan(Class<?> cls) {
+        List<InjectionPlan.FieldEntry> instanceFields = new ArrayList<>();
+        List<InjectionPlan.FieldEntry> staticFields = new ArrayList<>();
+        for (Field field : this.fieldAggregator.apply(cls)) {
+            InjectionTarget target = InjectionTarget.of(this.typeSystem, field);
+            if (this.resolver.claims(this.typeSystem, target)) {
+                (Modifier.isStatic(field.getModifiers()) ? staticFields : instanceFields).add(new InjectionPlan.FieldEntry(field, target, accessor(field), primitive(field, target)));
+            }
+        }
+
+        List<InjectionPlan.UnclaimedEntry> unclaimed = new ArrayList<>();
+        List<InjectionPlan.MethodEntry> instanceMethods = new ArrayList<>();
+        List<InjectionPlan.MethodEntry> staticMethods = new ArrayList<>();
+        for (Method method : this.methodAggregator.apply(cls)) {
+            if (method.getParameterCount() > 0) {
+                List<InjectionTarget> targets = claimedTargets(method, unclaimed);
+                if (targets != null) {
+                    (Modifier.isStatic(method.getModifiers()) ? staticMethods : instanceMethods).add(new InjectionPlan.MethodEntry(method, targets, invoker(method)));
                 }
             }
         }
 
-        if (max != null) {
-            List<Object> parameters = new ArrayList<>();
-            for (InjectionTarget target : maxTargets) {
-                InjectionResult result = this.binding.handle(this.typeSystem, target);
+        List<InjectionPlan.ConstructorEntry> constructors = new ArrayList<>();
+        for (Constructor<?> constructor : this.constructorAggregator.apply(cls)) {
+            List<InjectionTarget> targets = claimedTargets(constructor, unclaimed);
+            if (targets != null) {
+                constructors.add(new InjectionPlan.ConstructorEntry(constructor, targets, invoker(constructor)));
+            }
+        }
 
-                if (result.type() == InjectionResult.Type.SET) {
-                    parameters.add(result.value());
-                } else if (result.type() == InjectionResult.Type.ERROR) {
-                    throw new InjectionException(String.valueOf(result.value()));
-                } else {
-                    throw new InjectionException("Cannot ignore constructor param");
+        return new InjectionPlan(cls, instanceFields, staticFields, instanceMethods, staticMethods, constructors, unclaimed);
+    }
+
+    //Returns the targets of the executable's parameters, or null after recording the unclaimed ones if any is unclaimed
+    private List<InjectionTarget> claimedTargets(Executable executable, List<InjectionPlan.UnclaimedEntry> unclaimed) {
+        List<InjectionTarget> targets = new ArrayList<>();
+        List<InjectionTarget> missing = new ArrayList<>();
+        for (Parameter parameter : executable.getParameters()) {
+            InjectionTarget target = InjectionTarget.of(this.typeSystem, parameter);
+            (this.resolver.claims(this.typeSystem, target) ? targets : missing).add(target);
+        }
+
+        if (!missing.isEmpty()) {
+            unclaimed.add(new InjectionPlan.UnclaimedEntry(executable, missing));
+            return null;
+        }
+        return List.copyOf(targets);
+    }
+
+    private PrimitiveBinding primitive(Field field, InjectionTarget target) {
+        if (!field.getType().isPrimitive()) return null;
+
+        PrimitiveBinding primitive = this.resolver.primitive(this.typeSystem, target);
+        return primitive != null && primitive.writes(field.getType()) ? primitive : null;
+    }
+
+    private MemberAccess.FieldAccessor accessor(Field field) {
+        try {
+            return this.memberAccess.field(field);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return new MemberAccess.FieldAccessor() {
+                @Override
+                public Object get(Object instance) {
+                    throw new InjectionException("Failed to inject into field " + field.getName(), e);
                 }
-            }
 
-            max.trySetAccessible();
-            try {
-                return (T) max.newInstance(parameters.toArray());
-            } catch (IllegalAccessException | InvocationTargetException | InstantiationException e) {
+                @Override
+                public void set(Object instance, Object value) {
+                    throw new InjectionException("Failed to inject into field " + field.getName(), e);
+                }
+            };
+        }
+    }
+
+    private MemberAccess.Invoker invoker(Method method) {
+        try {
+            return this.memberAccess.method(method);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return (instance, args) -> {
+                throw new InjectionException("Failed to inject into method " + method.getName(), e);
+            };
+        }
+    }
+
+    private MemberAccess.Invoker invoker(Constructor<?> constructor) {
+        try {
+            return this.memberAccess.constructor(constructor);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return (instance, args) -> {
                 throw new InjectionException("Failed to inject into constructor", e);
+            };
+        }
+    }
+
+    @Override
+    public <T> T createAndInject(Class<T> cls) {
+        return InjectionSession.run(() -> this.graph ? InjectionSession.current().resolve(cls, this::build) : build(cls));
+    }
+
+    @Override
+    public <T> T create(Class<T> cls) {
+        CreateEvent event = CreateEvent.start();
+        try {
+            return this.graph ? InjectionSession.run(() -> construct(cls)) : construct(cls);
+        } finally {
+            if (event != null) event.commit(cls);
+        }
+    }
+
+    <T> T build(Class<T> cls) {
+        T t = create(cls);
+        inject(t);
+        return t;
+    }
+
+    private <T> T construct(Class<T> cls) {
+        InjectionPlan.ConstructorEntry constructor = constructor(cls);
+        List<InjectionTarget> targets = constructor.targets();
+        Object[] parameters = new Object[targets.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = constructorParameter(resolve(targets.get(i)));
+        }
+        return instantiate(constructor, parameters);
+    }
+
+    /**
+     * Creates a new instance of the given class by attempting to inject into a constructor, as with
+     * {@link #create(Class)}, but resolves the constructor's parameters concurrently. Each parameter is resolved with
+     * {@link Binding#handleAsync(JTypeSystem, InjectionTarget, Executor)}, and the constructor is invoked on the given
+     * executor once every parameter is resolved. Cancelling the returned future cancels the parameters which are still
+     * being resolved, and the constructor is not invoked.
+     * <p>
+     * If an {@link InjectionSession} is open on the calling thread, or this injector builds object graphs, every
+     * parameter is resolved within that session, or a single new session for the whole call, so classes and session
+     * scoped values are shared between parameters as with {@link #create(Class)}.
+     *
+     * @param cls      The class to instantiate
+     * @param executor The executor to resolve parameters and invoke the constructor on
+     * @param <T>      The type of the class
+     * @return A future which completes with the new instance, or exceptionally with an {@link InjectionException}
+     */
+    @Override
+    public <T> CompletableFuture<T> createAsync(Class<T> cls, Executor executor) {
+        CreateEvent event = CreateEvent.start();
+        InjectionPlan.ConstructorEntry constructor;
+        try {
+            constructor = constructor(cls);
+        } catch (InjectionException e) {
+            if (event != null) event.commit(cls);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        InjectionSession session = InjectionSession.current();
+        if (session == null && this.graph) {
+            session = InjectionSession.create();
+        }
+        if (session != null) {
+            executor = session.executor(executor);
+        }
+
+        List<InjectionTarget> targets = constructor.targets();
+        CompletableFuture<InjectionResult>[] parameters = new CompletableFuture[targets.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = this.resolver.handleAsync(this.typeSystem, targets.get(i), executor);
+        }
+
+        CompletableFuture<T> result = CompletableFuture.allOf(parameters).handleAsync((ignored, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                throw cause instanceof InjectionException injection ? injection : new InjectionException("Failed to resolve constructor param", cause);
             }
-        } else {
+
+            Object[] values = new Object[parameters.length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = constructorParameter(parameters[i].join());
+            }
+            return instantiate(constructor, values);
+        }, executor);
+
+        result.whenComplete((value, error) -> {
+            if (event != null) event.commit(cls);
+            if (result.isCancelled()) {
+                for (CompletableFuture<InjectionResult> parameter : parameters) {
+                    parameter.cancel(true);
+                }
+            }
+        });
+        return result;
+    }
+
+    //The selected constructor is cached in the plan, including its absence
+    private InjectionPlan.ConstructorEntry constructor(Class<?> cls) {
+        InjectionPlan.ConstructorEntry constructor = plan(cls).constructor();
+        if (constructor == null) {
             throw new InjectionException("Could not find applicable injection constructor for " + cls.getName());
         }
+        return constructor;
+    }
+
+    private static Object constructorParameter(InjectionResult result) {
+        if (result.type() == InjectionResult.Type.SET) {
+            return result.value();
+        } else if (result.type() == InjectionResult.Type.ERROR) {
+            throw new InjectionException(String.valueOf(result.value()));
+        } else {
+            throw new InjectionException("Cannot ignore constructor param");
+        }
+    }
+
+    private static <T> T instantiate(InjectionPlan.ConstructorEntry constructor, Object[] parameters) {
+        try {
+            return (T) constructor.invoker().invoke(null, parameters);
+        } catch (InjectionException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InjectionException("Failed to inject into constructor", e);
+        }
     }
 
     @Override
     public void inject(Object object) {
         if (object != null) {
-            this.fieldAggregator.apply(object.getClass()).stream().filter(f -> !Modifier.isStatic(f.getModifiers())).forEach(f -> tryInjection(f, object));
-            this.methodAggregator.apply(object.getClass()).stream().filter(m -> !Modifier.isStatic(m.getModifiers())).forEach(m -> tryInjection(m, object));
+            inject(plan(object.getClass()), object);
+        }
+    }
+
+    //Objects are grouped by class, so that each group looks up its plan once
+    @Override
+    public BatchInjectionResult injectAll(Collection<?> objects) {
+        Map<Class<?>, List<Integer>> groups = new LinkedHashMap<>();
+        Object[] batch = objects.toArray();
+        for (int i = 0; i < batch.length; i++) {
+            if (batch[i] != null) {
+                groups.computeIfAbsent(batch[i].getClass(), k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        List<BatchInjectionResult.Failure> failures = new ArrayList<>();
+        groups.forEach((type, indices) -> {
+            InjectionPlan plan;
+            try {
+                plan = plan(type);
+            } catch (RuntimeException e) {
+                indices.forEach(i -> failures.add(new BatchInjectionResult.Failure(i, batch[i], e)));
+                return;
+            }
+
+            for (int i : indices) {
+                try {
+                    inject(plan, batch[i]);
+                } catch (RuntimeException e) {
+                    failures.add(new BatchInjectionResult.Failure(i, batch[i], e));
+                }
+            }
+        });
+        return new BatchInjectionResult(batch.length, failures);
+    }
+
+    private void inject(InjectionPlan plan, Object object) {
+        InjectEvent event = InjectEvent.start();
+        try {
+            if (this.graph) {
+                InjectionSession.run(() -> {
+                    injectMembers(plan.instanceFields(), plan.instanceMethods(), object);
+                    return null;
+                });
+            } else {
+                injectMembers(plan.instanceFields(), plan.instanceMethods(), object);
+            }
+        } finally {
+            if (event != null) event.commit(object.getClass());
+        }
+    }
+
+    //Plain loops, so that injecting an object allocates nothing beyond what its bindings produce
+    private void injectMembers(List<InjectionPlan.FieldEntry> fields, List<InjectionPlan.MethodEntry> methods, Object object) {
+        for (int i = 0; i < fields.size(); i++) {
+            tryInjection(fields.get(i), object);
+        }
+        for (int i = 0; i < methods.size(); i++) {
+            tryInjection(methods.get(i), object);
         }
     }
 
     @Override
     public void injectStatic(Class<?> cls) {
-        this.fieldAggregator.apply(cls).stream().filter(f -> Modifier.isStatic(f.getModifiers())).forEach(f -> tryInjection(f, null));
-        this.methodAggregator.apply(cls).stream().filter(m -> Modifier.isStatic(m.getModifiers())).forEach(m -> tryInjection(m, null));
+        InjectStaticEvent event = InjectStaticEvent.start();
+        try {
+            InjectionPlan plan = plan(cls);
+            injectMembers(plan.staticFields(), plan.staticMethods(), null);
+        } finally {
+            if (event != null) event.commit(cls);
+        }
     }
 
-    private void tryInjection(Method method, Object src) {
-        if (method.getParameterCount() > 0) {
-            List<InjectionTarget> targets = Stream.of(method.getParameters()).map(p -> new InjectionTarget(this.typeSystem, p)).collect(Collectors.toList());
+    private InjectionResult resolve(InjectionTarget target) {
+        ResolveEvent event = ResolveEvent.start();
+        if (event == null) {
+            return this.resolver.handle(this.typeSystem, target);
+        }
 
-            if (targets.stream().allMatch(t -> this.binding.claims(this.typeSystem, t))) {
-                List<Object> parameters = new ArrayList<>();
-                for (InjectionTarget target : targets) {
-                    InjectionResult result = this.binding.handle(this.typeSystem, target);
+        InjectionResult result = null;
+        try {
+            result = this.resolver.handle(this.typeSystem, target);
+            return result;
+        } finally {
+            event.commit(target, result);
+        }
+    }
 
-                    if (result.type() == InjectionResult.Type.SET) {
-                        parameters.add(result.value());
-                    } else if (result.type() == InjectionResult.Type.ERROR) {
-                        throw new InjectionException(String.valueOf(result.type()));
-                    } else {
-                        return;
-                    }
-                }
+    private void tryInjection(InjectionPlan.MethodEntry entry, Object src) {
+        List<InjectionTarget> targets = entry.targets();
+        Object[] parameters = new Object[targets.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            InjectionResult result = resolve(targets.get(i));
 
-                method.trySetAccessible();
-                try {
-                    method.invoke(src, parameters.toArray());
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new InjectionException("Failed to inject into method " + method.getName(), e);
-                }
+            if (result.type() == InjectionResult.Type.SET) {
+                parameters[i] = result.value();
+            } else if (result.type() == InjectionResult.Type.ERROR) {
+                throw new InjectionException(String.valueOf(result.value()));
+            } else {
+                return;
             }
         }
+
+        try {
+            entry.invoker().invoke(src, parameters);
+        } catch (InjectionException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InjectionException("Failed to inject into method " + entry.method().getName(), e);
+        }
     }
 
-    private void tryInjection(Field field, Object src) {
-        InjectionTarget target = new InjectionTarget(this.typeSystem, field);
-        if (this.binding.claims(this.typeSystem, target)) {
-            field.trySetAccessible();
+    private void tryInjection(InjectionPlan.FieldEntry entry, Object src) {
+        InjectionTarget target = entry.target();
+        MemberAccess.FieldAccessor accessor = entry.accessor();
 
-            try {
-                Object obj = field.get(src);
-
-                if (this.dummyObjectMatcher.test(target, obj)) {
-                    InjectionResult result = this.binding.handle(this.typeSystem, target);
-                    if (result.type() == InjectionResult.Type.SET) {
-                        Object value = result.value();
-                        if (value != null) {
-                            field.set(src, value);
-                        }
-                    } else if (result.type() == InjectionResult.Type.ERROR) {
-                        throw new InjectionException(String.valueOf(result.type()));
+        try {
+            PrimitiveBinding primitive = entry.primitive();
+            //Recorded resolutions take the boxed path, which emits their resolve and provider events
+            if (primitive != null && !ResolveEvent.enabled() && !ProviderEvent.enabled()) {
+                tryPrimitiveInjection(entry, primitive, src);
+                return;
+            }
+
+            Object obj = accessor.get(src);
+
+            if (this.dummyObjectMatcher.test(target, obj)) {
+                InjectionResult result = resolve(target);
+                if (result.type() == InjectionResult.Type.SET) {
+                    Object value = result.value();
+                    if (value != null) {
+                        accessor.set(src, value);
                     }
+                } else if (result.type() == InjectionResult.Type.ERROR) {
+                    throw new InjectionException(String.valueOf(result.value()));
                 }
-            } catch (IllegalAccessException e) {
-                throw new InjectionException("Failed to inject into field " + field.getName(), e);
+            }
+        } catch (InjectionException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InjectionException("Failed to inject into field " + entry.field().getName(), e);
+        }
+    }
+
+    private void tryPrimitiveInjection(InjectionPlan.FieldEntry entry, PrimitiveBinding primitive, Object src) throws Throwable {
+        MemberAccess.FieldAccessor accessor = entry.accessor();
+        Class<?> type = entry.field().getType();
+
+        if (type == int.class) {
+            if (this.defaultDummyObjectMatcher ? accessor.getInt(src) == 0 : this.dummyObjectMatcher.test(entry.target(), accessor.get(src))) {
+                accessor.setInt(src, primitive.getInt());
+            }
+        } else if (type == long.class) {
+            if (this.defaultDummyObjectMatcher ? accessor.getLong(src) == 0 : this.dummyObjectMatcher.test(entry.target(), accessor.get(src))) {
+                accessor.setLong(src, primitive.getLong());
+            }
+        } else {
+            //Only positive zero is equal to the boxed default, so the raw bits are compared
+            if (this.defaultDummyObjectMatcher ? Double.doubleToRawLongBits(accessor.getDouble(src)) == 0 : this.dummyObjectMatcher.test(entry.target(), accessor.get(src))) {
+                accessor.setDouble(src, primitive.getDouble());
             }
         }
     }
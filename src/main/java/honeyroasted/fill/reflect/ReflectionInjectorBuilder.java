@@ -4,9 +4,13 @@ import honeyroasted.fill.DummyObject;
 import honeyroasted.fill.InjectionTarget;
 import honeyroasted.fill.InjectorBuilder;
 import honeyroasted.fill.bindings.Binding;
+import honeyroasted.fill.bindings.CompiledBinding;
+import honeyroasted.fill.bindings.IndexedBinding;
 import honeyroasted.fill.bindings.SequenceBinding;
+import honeyroasted.fill.metrics.InjectionMetrics;
 import honeyroasted.jype.system.JTypeSystem;
 
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -22,14 +26,26 @@ import java.util.function.Function;
  * An {@link InjectorBuilder} for building {@link ReflectionInjector}s
  */
 public class ReflectionInjectorBuilder implements InjectorBuilder<ReflectionInjectorBuilder, ReflectionInjector> {
-    private List<Binding> bindings = new ArrayList<>();
-    private JTypeSystem system = JTypeSystem.RUNTIME_REFLECTION;
-    private BiPredicate<InjectionTarget, Object> dummyObjectMatcher = (it, obj) ->
+    //Injectors recognize this matcher, and test primitive fields against zero without boxing them
+    static final BiPredicate<InjectionTarget, Object> DEFAULT_DUMMY_OBJECT_MATCHER = (it, obj) ->
             Objects.equals(obj, getDefault(it.rawType())) || obj instanceof DummyObject;
 
-    private Function<Class<?>, Collection<Field>> fieldAggregator = Aggregators.ANNOTATED_FIELDS;
-    private Function<Class<?>, Collection<Method>> methodAggregator = Aggregators.ANNOTATED_METHODS;
-    private Function<Class<?>, Collection<Constructor<?>>> constructorAggregator = Aggregators.ANNOTATED_CONSTRUCTORS;
+    private List<Binding> bindings = new ArrayList<>();
+
+    //The settings below are read by ReflectionInjector when it is built from this builder
+    JTypeSystem system = JTypeSystem.RUNTIME_REFLECTION;
+    BiPredicate<InjectionTarget, Object> dummyObjectMatcher = DEFAULT_DUMMY_OBJECT_MATCHER;
+
+    Function<Class<?>, Collection<Field>> fieldAggregator = Aggregators.ANNOTATED_FIELDS;
+    Function<Class<?>, Collection<Method>> methodAggregator = Aggregators.ANNOTATED_METHODS;
+    Function<Class<?>, Collection<Constructor<?>>> constructorAggregator = Aggregators.ANNOTATED_CONSTRUCTORS;
+    MemberAccess memberAccess = MemberAccess.handles(MethodHandles.lookup());
+    boolean graph = false;
+    InjectionMetrics metrics = null;
+
+    private boolean indexed = false;
+    private boolean compiled = false;
+    private List<Class<?>> prepared = new ArrayList<>();
 
 
     /**
@@ -103,6 +119,111 @@ public class ReflectionInjectorBuilder implements InjectorBuilder<ReflectionInje
         return this;
     }
 
+    /**
+     * Sets the field, method and constructor aggregators for this builder to resolve members from the given
+     * {@link MemberIndexes}, falling back to {@link Aggregators#ANNOTATED_FIELDS}, {@link Aggregators#ANNOTATED_METHODS}
+     * and {@link Aggregators#ANNOTATED_CONSTRUCTORS} for classes without a valid index.
+     *
+     * @param indexes The member indices to use
+     * @return This, for method chaining
+     */
+    public ReflectionInjectorBuilder memberIndexes(MemberIndexes indexes) {
+        this.fieldAggregator = indexes.fields(Aggregators.ANNOTATED_FIELDS);
+        this.methodAggregator = indexes.methods(Aggregators.ANNOTATED_METHODS);
+        this.constructorAggregator = indexes.constructors(Aggregators.ANNOTATED_CONSTRUCTORS);
+        return this;
+    }
+
+    /**
+     * Sets the {@link MemberAccess} strategy for this builder. By default, it is set to resolve members to method
+     * handles using Fill's own {@link MethodHandles.Lookup}.
+     *
+     * @param memberAccess The new member access strategy
+     * @return This, for method chaining
+     */
+    public ReflectionInjectorBuilder memberAccess(MemberAccess memberAccess) {
+        this.memberAccess = memberAccess;
+        return this;
+    }
+
+    /**
+     * Sets the {@link MethodHandles.Lookup} used to resolve members to method handles. This allows private members in
+     * modules which are only open to the caller to be reached without {@link java.lang.reflect.AccessibleObject#setAccessible(boolean)}.
+     *
+     * @param lookup The lookup to resolve members with
+     * @return This, for method chaining
+     */
+    public ReflectionInjectorBuilder lookup(MethodHandles.Lookup lookup) {
+        return this.memberAccess(MemberAccess.handles(lookup));
+    }
+
+    /**
+     * Sets whether the bindings of the resulting injector are dispatched through an {@link IndexedBinding}, which only
+     * tests the bindings that may claim a given target by raw type, name or annotation. By default, it is set to false,
+     * and every binding is tested in order.
+     *
+     * @param indexed Whether to index the bindings
+     * @return This, for method chaining
+     */
+    public ReflectionInjectorBuilder indexed(boolean indexed) {
+        this.indexed = indexed;
+        return this;
+    }
+
+    /**
+     * Sets whether the bindings of the resulting injector are dispatched through a {@link CompiledBinding}, which
+     * compiles the claimants of each target into a {@link java.lang.invoke.MethodHandle} chain the JIT may inline. By
+     * default, it is set to false. Indexed bindings are not compiled.
+     *
+     * @param compiled Whether to compile the bindings
+     * @return This, for method chaining
+     */
+    public ReflectionInjectorBuilder compiled(boolean compiled) {
+        this.compiled = compiled;
+        return this;
+    }
+
+    /**
+     * Sets whether the resulting injector builds object graphs. In graph mode, targets of concrete, non-generic
+     * application classes which no binding claims are built recursively by the injector. Each top-level call to the
+     * injector is an {@link honeyroasted.fill.InjectionSession}, in which every class is built at most once and
+     * dependency cycles are reported. By default, it is set to false.
+     *
+     * @param graph Whether to build object graphs
+     * @return This, for method chaining
+     */
+    public ReflectionInjectorBuilder graph(boolean graph) {
+        this.graph = graph;
+        return this;
+    }
+
+    /**
+     * Sets the {@link InjectionMetrics} the resulting injector records to. Each binding is metered individually, and
+     * every target the injector resolves is metered by its raw type. By default, it is set to null, and bindings are
+     * not wrapped, so injectors without metrics pay nothing for them.
+     *
+     * @param metrics The metrics to record to, or null to record no metrics
+     * @return This, for method chaining
+     */
+    public ReflectionInjectorBuilder metrics(InjectionMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Adds classes to prepare when the injector is built. The injector computes their {@link InjectionPlan}s during
+     * {@link #build()}, which throws an {@link honeyroasted.fill.InjectionException} if any of their injection methods
+     * or constructors has a parameter which no binding claims. By default, no classes are prepared.
+     *
+     * @param classes The classes to prepare
+     * @return This, for method chaining
+     * @see ReflectionInjector#prepare(Class[])
+     */
+    public ReflectionInjectorBuilder prepare(Class<?>... classes) {
+        Collections.addAll(this.prepared, classes);
+        return this;
+    }
+
     @Override
     public ReflectionInjectorBuilder bind(Binding... bindings) {
         Collections.addAll(this.bindings, bindings);
@@ -111,7 +232,14 @@ public class ReflectionInjectorBuilder implements InjectorBuilder<ReflectionInje
 
     @Override
     public ReflectionInjector build() {
-        return new ReflectionInjector(new SequenceBinding(this.bindings), this.system, this.dummyObjectMatcher, this.fieldAggregator, this.methodAggregator, this.constructorAggregator);
+        List<Binding> bindings = this.metrics == null ? this.bindings : this.bindings.stream().map(this.metrics::meter).toList();
+        Binding binding = this.indexed ? new IndexedBinding(bindings) :
+                this.compiled ? new CompiledBinding(bindings) : new SequenceBinding(bindings);
+        ReflectionInjector injector = new ReflectionInjector(binding, this);
+        if (!this.prepared.isEmpty()) {
+            injector.prepare(this.prepared).throwIfInvalid();
+        }
+        return injector;
     }
 
     private static Object getDefault(Class<?> cls) {
@@ -0,0 +1,53 @@
+package honeyroasted.fill.reflect;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * A {@link MemberAccess} implementation which uses core reflection
+ */
+class ReflectionMemberAccess implements MemberAccess {
+    static final MemberAccess INSTANCE = new ReflectionMemberAccess();
+
+    @Override
+    public FieldAccessor field(Field field) {
+        field.trySetAccessible();
+        return new FieldAccessor() {
+            @Override
+            public Object get(Object instance) throws Throwable {
+                return field.get(instance);
+            }
+
+            @Override
+            public void set(Object instance, Object value) throws Throwable {
+                field.set(instance, value);
+            }
+        };
+    }
+
+    @Override
+    public Invoker method(Method method) {
+        method.trySetAccessible();
+        return (instance, args) -> {
+            try {
+                return method.invoke(instance, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    @Override
+    public Invoker constructor(Constructor<?> constructor) {
+        constructor.trySetAccessible();
+        return (instance, args) -> {
+            try {
+                return constructor.newInstance(args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+    }
+}
@@ -0,0 +1,215 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.InjectionException;
+import honeyroasted.fill.Injector;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncInjectionTest {
+
+    public static class Foo {
+        public final String a;
+        public final Integer b;
+
+        @Inject
+        public Foo(String a, Integer b) {
+            this.a = a;
+            this.b = b;
+        }
+    }
+
+    public static class Shared {
+        @Inject
+        public Shared() {}
+    }
+
+    public static class Left {
+        public final Shared shared;
+
+        @Inject
+        public Left(@Inject Shared shared) {
+            this.shared = shared;
+        }
+    }
+
+    public static class Right {
+        public final Shared shared;
+
+        @Inject
+        public Right(@Inject Shared shared) {
+            this.shared = shared;
+        }
+    }
+
+    public static class Root {
+        public final Left left;
+        public final Right right;
+
+        @Inject
+        public Root(@Inject Left left, @Inject Right right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    private static CyclicBarrier barrier;
+
+    public static class WaitingLeft {
+        @Inject
+        public WaitingLeft() {
+            await(barrier);
+        }
+    }
+
+    public static class WaitingRight {
+        @Inject
+        public WaitingRight() {
+            await(barrier);
+        }
+    }
+
+    public static class WaitingRoot {
+        @Inject
+        public WaitingRoot(@Inject WaitingLeft left, @Inject WaitingRight right) {}
+    }
+
+    public static class CycleLeft {
+        @Inject
+        public CycleLeft(@Inject CycleRight right) {}
+    }
+
+    public static class CycleRight {
+        @Inject
+        public CycleRight(@Inject CycleLeft left) {}
+    }
+
+    public static class CycleRoot {
+        @Inject
+        public CycleRoot(@Inject CycleLeft left, @Inject CycleRight right) {}
+    }
+
+    @Test
+    public void testConcurrentArguments() throws Exception {
+        //Each provider waits for the other, so they only complete if they are resolved concurrently
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        Injector<?, ?> injector = ReflectionInjector.builder()
+                .bind(String.class).toProvider(() -> {
+                    await(barrier);
+                    return "a";
+                })
+                .bind(Integer.class).toProvider(() -> {
+                    await(barrier);
+                    return 1;
+                })
+                .build();
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            Foo foo = injector.createAsync(Foo.class, executor).get(10, TimeUnit.SECONDS);
+            assertEquals("a", foo.a);
+            assertEquals(1, foo.b);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAsyncBinding() throws Exception {
+        Injector<?, ?> injector = ReflectionInjector.builder()
+                .bind(String.class).toAsyncProvider(() -> CompletableFuture.supplyAsync(() -> "a"))
+                .bind(Integer.class).toInstance(1)
+                .build();
+
+        Foo foo = injector.createAsync(Foo.class).get(10, TimeUnit.SECONDS);
+        assertEquals("a", foo.a);
+        assertEquals(1, foo.b);
+
+        Foo sync = injector.create(Foo.class);
+        assertEquals("a", sync.a);
+    }
+
+    @Test
+    public void testErrorPropagation() {
+        Injector<?, ?> injector = ReflectionInjector.builder()
+                .bind(String.class).toAsyncProvider(() -> CompletableFuture.failedFuture(new IllegalStateException("unavailable")))
+                .bind(Integer.class).toInstance(1)
+                .build();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> injector.createAsync(Foo.class).get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof InjectionException);
+        assertThrows(InjectionException.class, () -> injector.create(Foo.class));
+    }
+
+    @Test
+    public void testCancellation() {
+        CompletableFuture<Object> pending = new CompletableFuture<>();
+        Injector<?, ?> injector = ReflectionInjector.builder()
+                .bind(String.class).toAsyncProvider(() -> pending)
+                .bind(Integer.class).toInstance(1)
+                .build();
+
+        CompletableFuture<Foo> future = injector.createAsync(Foo.class);
+        assertTrue(future.cancel(true));
+        assertTrue(pending.isDone());
+    }
+
+    @Test
+    public void testGraphSession() throws Exception {
+        Injector<?, ?> injector = ReflectionInjector.builder().graph(true).build();
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            Root root = injector.createAsync(Root.class, executor).get(10, TimeUnit.SECONDS);
+            assertNotNull(root.left.shared);
+            assertSame(root.left.shared, root.right.shared);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGraphConcurrentClasses() throws Exception {
+        //Each class waits for the other, so they are only built if the session does not serialize building classes
+        barrier = new CyclicBarrier(2);
+        Injector<?, ?> injector = ReflectionInjector.builder().graph(true).build();
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            assertNotNull(injector.createAsync(WaitingRoot.class, executor).get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGraphCycleBetweenThreads() {
+        Injector<?, ?> injector = ReflectionInjector.builder().graph(true).build();
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> injector.createAsync(CycleRoot.class, executor).get(10, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof InjectionException);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
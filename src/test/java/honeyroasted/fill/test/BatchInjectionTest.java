@@ -0,0 +1,81 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.BatchInjectionResult;
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.Injector;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchInjectionTest {
+
+    private static class Foo {
+        @Inject
+        public String a;
+    }
+
+    private static class Bar {
+        @Inject
+        public Integer b;
+    }
+
+    private static class Failing {
+        @Inject
+        public Long c;
+    }
+
+    private static final Injector<?, ?> INJECTOR = ReflectionInjector.builder()
+            .bind(String.class).toInstance("A")
+            .bind(Integer.class).toInstance(1)
+            .bind(Long.class).toProvider(() -> {
+                throw new IllegalStateException("Failing");
+            })
+            .build();
+
+    @Test
+    public void testInjectAll() {
+        Object[] objects = {new Foo(), new Bar(), new Failing(), new Foo()};
+        BatchInjectionResult result = INJECTOR.injectAll(objects);
+
+        assertEquals(4, result.size());
+        assertFalse(result.successful());
+        assertEquals(1, result.failures().size());
+        assertEquals(2, result.failures().get(0).index());
+        assertSame(objects[2], result.failures().get(0).object());
+
+        assertEquals("A", ((Foo) objects[0]).a);
+        assertEquals(1, ((Bar) objects[1]).b);
+        assertEquals("A", ((Foo) objects[3]).a);
+    }
+
+    @Test
+    public void testInjectAllParallel() throws InterruptedException {
+        List<Object> objects = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            objects.add(i % 500 == 7 ? new Failing() : new Foo());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            BatchInjectionResult result = INJECTOR.injectAll(objects, executor);
+
+            assertEquals(2000, result.size());
+            assertEquals(List.of(7, 507, 1007, 1507), result.failures().stream().map(BatchInjectionResult.Failure::index).toList());
+            for (Object object : objects) {
+                if (object instanceof Foo foo) {
+                    assertEquals("A", foo.a);
+                }
+            }
+            assertThrows(RuntimeException.class, result::throwIfFailed);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
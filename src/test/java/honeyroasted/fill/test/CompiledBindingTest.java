@@ -0,0 +1,104 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.InjectionException;
+import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.bindings.Binding;
+import honeyroasted.fill.bindings.CompiledBinding;
+import honeyroasted.fill.bindings.Matcher;
+import honeyroasted.fill.bindings.Matchers;
+import honeyroasted.fill.bindings.SequenceBinding;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import honeyroasted.jype.system.JTypeSystem;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompiledBindingTest {
+
+    public static class Foo {
+        @Inject
+        public String a;
+        @Inject
+        public String b;
+        @Inject
+        public String c;
+        @Inject
+        public Integer d;
+    }
+
+    private static List<Binding> bindings() {
+        return List.of(
+                Matchers.name("a").and(Matchers.type(String.class)).toInstance("A"),
+                SequenceBinding.of(
+                        Matchers.name("b").toProvider(() -> null),
+                        Matchers.name("b").or(Matchers.name("x")).toInstance("B")),
+                Matchers.type(String.class).and(Matchers.name("a").negate()).toInstance("C"));
+    }
+
+    @Test
+    public void testMatchesSequence() throws NoSuchFieldException {
+        Binding compiled = new CompiledBinding(bindings());
+        Binding sequence = new SequenceBinding(bindings());
+
+        for (String name : List.of("a", "b", "c", "d")) {
+            InjectionTarget target = InjectionTarget.of(JTypeSystem.RUNTIME_REFLECTION, Foo.class.getField(name));
+            InjectionResult expected = sequence.handle(JTypeSystem.RUNTIME_REFLECTION, target);
+            InjectionResult actual = compiled.handle(JTypeSystem.RUNTIME_REFLECTION, target);
+            assertEquals(expected.type(), actual.type(), name);
+            assertEquals(expected.value(), actual.value(), name);
+            assertEquals(sequence.claims(JTypeSystem.RUNTIME_REFLECTION, target), compiled.claims(JTypeSystem.RUNTIME_REFLECTION, target), name);
+        }
+    }
+
+    @Test
+    public void testCompiledInjector() {
+        ReflectionInjector injector = ReflectionInjector.builder()
+                .compiled(true)
+                .bind(bindings().toArray(Binding[]::new))
+                .build();
+
+        Foo foo = injector.createAndInject(Foo.class);
+        assertEquals("A", foo.a);
+        assertEquals("B", foo.b);
+        assertEquals("C", foo.c);
+        assertNull(foo.d);
+    }
+
+    @Test
+    public void testClaimsMemoized() {
+        AtomicInteger claims = new AtomicInteger();
+        Matcher counting = (target, system) -> {
+            claims.incrementAndGet();
+            return target.rawType() == String.class;
+        };
+
+        ReflectionInjector injector = ReflectionInjector.builder()
+                .compiled(true)
+                .bind(counting).toInstance("A")
+                .build();
+
+        injector.createAndInject(Foo.class);
+        int afterFirst = claims.get();
+        Foo second = injector.createAndInject(Foo.class);
+
+        assertEquals("A", second.c);
+        assertEquals(afterFirst, claims.get());
+    }
+
+    @Test
+    public void testErrors() throws NoSuchFieldException {
+        Binding compiled = CompiledBinding.of(
+                Matchers.type(String.class).to((target, system) -> InjectionResult.error("unavailable")),
+                Matchers.type(String.class).toInstance("A"));
+
+        InjectionTarget target = InjectionTarget.of(JTypeSystem.RUNTIME_REFLECTION, Foo.class.getField("a"));
+        InjectionException exception = assertThrows(InjectionException.class, () -> compiled.handle(JTypeSystem.RUNTIME_REFLECTION, target));
+        assertEquals("unavailable", exception.getMessage());
+    }
+
+}
@@ -0,0 +1,100 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.Injector;
+import honeyroasted.fill.bindings.Matchers;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightRecorderTest {
+
+    public static class Foo {
+        @Inject
+        public static String staticValue;
+
+        @Inject
+        public Integer value;
+
+        public final String constructed;
+
+        @Inject
+        public Foo(String constructed) {
+            this.constructed = constructed;
+        }
+    }
+
+    public static class Bar {
+        @Inject
+        public int count;
+    }
+
+    @Test
+    public void testEvents() throws Exception {
+        Injector<?, ?> injector = ReflectionInjector.builder()
+                .bind(String.class).toInstance("a")
+                .bind(Integer.class).toInstance(1)
+                .build();
+
+        Path file = Files.createTempFile("fill", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("Create", "Inject", "InjectStatic", "Resolve", "Provider")) {
+                recording.enable("honeyroasted.fill." + name).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            injector.createAndInject(Foo.class);
+            injector.injectStatic(Foo.class);
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("honeyroasted.fill.Create") &&
+                    e.getClass("targetClass").getName().equals(Foo.class.getName())));
+            assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("honeyroasted.fill.Inject")));
+            assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("honeyroasted.fill.InjectStatic")));
+            assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("honeyroasted.fill.Resolve") &&
+                    e.getString("member").equals("value") && e.getString("result").equals("SET") &&
+                    e.getString("binding").startsWith("SimpleBinding")));
+            assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("honeyroasted.fill.Provider") &&
+                    e.getString("binding").startsWith("SimpleBinding")));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testPrimitiveEvents() throws Exception {
+        Injector<?, ?> injector = ReflectionInjector.builder()
+                .bind(Matchers.exactType(int.class).toIntInstance(3))
+                .build();
+
+        Path file = Files.createTempFile("fill", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("Resolve", "Provider")) {
+                recording.enable("honeyroasted.fill." + name).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            assertEquals(3, injector.createAndInject(Bar.class).count);
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("honeyroasted.fill.Resolve") &&
+                    e.getString("member").equals("count") && e.getString("result").equals("SET")));
+            assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("honeyroasted.fill.Provider") &&
+                    e.getString("member").equals("count")));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
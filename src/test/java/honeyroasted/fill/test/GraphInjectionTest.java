@@ -0,0 +1,117 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.InjectionException;
+import honeyroasted.fill.Injector;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GraphInjectionTest {
+
+    public static class Repository {
+        @Inject
+        public String url;
+
+        @Inject
+        public Repository() {}
+    }
+
+    public static class Service {
+        public Repository repository;
+
+        @Inject
+        public Service(@Inject Repository repository) {
+            this.repository = repository;
+        }
+    }
+
+    public static class Application {
+        @Inject
+        public Service service;
+        @Inject
+        public Repository repository;
+
+        @Inject
+        public Application() {}
+    }
+
+    public static class Unbuildable {
+        @Inject
+        public Unbuildable(@Inject Runnable runnable) {}
+    }
+
+    public static class Fallback {
+        public boolean defaulted;
+
+        @Inject
+        public Fallback() {
+            this.defaulted = true;
+        }
+
+        @Inject
+        public Fallback(@Inject Unbuildable unbuildable) {}
+    }
+
+    public static class CycleA {
+        @Inject
+        public CycleA(@Inject CycleB b) {}
+    }
+
+    public static class CycleB {
+        @Inject
+        public CycleB(@Inject CycleA a) {}
+    }
+
+    @Test
+    public void testGraphBuilt() {
+        Injector<?, ?> injector = ReflectionInjector.builder()
+                .graph(true)
+                .bind(String.class).toInstance("jdbc")
+                .build();
+
+        Application first = injector.createAndInject(Application.class);
+        assertEquals("jdbc", first.repository.url);
+        assertSame(first.repository, first.service.repository);
+
+        Application second = injector.createAndInject(Application.class);
+        assertNotSame(first.repository, second.repository);
+    }
+
+    @Test
+    public void testUnbuildableConstructorSkipped() {
+        Injector<?, ?> injector = ReflectionInjector.builder()
+                .graph(true)
+                .build();
+
+        assertTrue(injector.createAndInject(Fallback.class).defaulted);
+    }
+
+    @Test
+    public void testGraphDisabled() {
+        Application application = ReflectionInjector.builder()
+                .bind(String.class).toInstance("jdbc")
+                .build()
+                .createAndInject(Application.class);
+
+        assertNull(application.service);
+        assertNull(application.repository);
+    }
+
+    @Test
+    public void testCycleReported() {
+        Injector<?, ?> injector = ReflectionInjector.builder()
+                .graph(true)
+                .build();
+
+        InjectionException exception = assertThrows(InjectionException.class, () -> injector.createAndInject(CycleA.class));
+        String expected = CycleA.class.getName() + " -> " + CycleB.class.getName() + " -> " + CycleA.class.getName();
+        Throwable cause = exception;
+        while (cause != null && !cause.getMessage().contains(expected)) {
+            cause = cause.getCause();
+        }
+        assertNotNull(cause);
+    }
+
+}
@@ -0,0 +1,83 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.InjectionAnnotation;
+import honeyroasted.fill.Injector;
+import honeyroasted.fill.bindings.Matchers;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedBindingTest {
+
+    @InjectionAnnotation
+    @Retention(RetentionPolicy.RUNTIME)
+    private @interface Bar {
+
+    }
+
+    private static class Foo {
+        @Inject
+        public String a;
+        @Bar
+        public String b;
+        @Inject("named")
+        public Integer number;
+        @Inject
+        public long primitive;
+        @Inject
+        public Collection<String> strings;
+        @Inject
+        public Object object;
+
+        @Inject
+        public Foo() {}
+    }
+
+    @Test
+    public void testIndexedMatchesSequence() {
+        List<String> strings = new ArrayList<>(List.of("A", "B"));
+        for (boolean indexed : new boolean[]{false, true}) {
+            Injector<?, ?> injector = ReflectionInjector.builder()
+                    .indexed(indexed)
+                    .bind(Matchers.annotation(Bar.class)).toInstance("Bar")
+                    .bind(Matchers.name("object")).toInstance("Object")
+                    .bind(String.class, "a").toInstance("A")
+                    .bind(Integer.class, "named").toInstance(1)
+                    .bind(int.class).toInstance(2)
+                    .bind(ArrayList.class).toInstance(strings)
+                    .build();
+
+            Foo foo = injector.createAndInject(Foo.class);
+            assertEquals("A", foo.a);
+            assertEquals("Bar", foo.b);
+            assertEquals(1, foo.number);
+            assertEquals(2L, foo.primitive);
+            assertSame(strings, foo.strings);
+            assertEquals("Object", foo.object);
+        }
+    }
+
+    @Test
+    public void testIndexedPreservesOrder() {
+        Injector<?, ?> injector = ReflectionInjector.builder()
+                .indexed(true)
+                .bind(Object.class).toInstance("First")
+                .bind(String.class, "a").toInstance("A")
+                .bind((target, system) -> target.rawType() == String.class).toInstance("Unindexed")
+                .build();
+
+        Foo foo = injector.createAndInject(Foo.class);
+        assertEquals("First", foo.object);
+        assertEquals("A", foo.a);
+        assertEquals("Unindexed", foo.b);
+    }
+
+}
@@ -0,0 +1,99 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.InjectionException;
+import honeyroasted.fill.reflect.Aggregators;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InjectionPlanTest {
+
+    private static class Foo {
+        @Inject
+        public String a;
+        @Inject
+        public String b;
+
+        @Inject
+        public Foo() {}
+    }
+
+    public static class Bar {
+        public final String a;
+
+        @Inject
+        public Bar() {
+            this(null);
+        }
+
+        @Inject
+        public Bar(String a) {
+            this.a = a;
+        }
+
+        @Inject
+        public Bar(String a, Long b) {
+            this(a);
+        }
+    }
+
+    public static class Baz {
+        @Inject
+        public Baz(Long b) {}
+    }
+
+    @Test
+    public void testPlanIsReused() {
+        ReflectionInjector injector = ReflectionInjector.builder()
+                .bind(String.class).toInstance("A")
+                .build();
+
+        assertSame(injector.plan(Foo.class), injector.plan(Foo.class));
+        assertEquals(2, injector.plan(Foo.class).instanceFields().size());
+    }
+
+    @Test
+    public void testAggregatorsRunOnce() {
+        AtomicInteger scans = new AtomicInteger();
+        ReflectionInjector injector = ReflectionInjector.builder()
+                .fieldAggregator(cls -> {
+                    scans.incrementAndGet();
+                    return Aggregators.ANNOTATED_FIELDS.apply(cls);
+                })
+                .bind(String.class).toInstance("A")
+                .build();
+
+        Foo first = injector.createAndInject(Foo.class);
+        Foo second = injector.createAndInject(Foo.class);
+
+        assertEquals("A", first.a);
+        assertEquals("A", second.b);
+        assertEquals(1, scans.get());
+    }
+
+    @Test
+    public void testConstructorSelection() {
+        AtomicInteger scans = new AtomicInteger();
+        ReflectionInjector injector = ReflectionInjector.builder()
+                .constructorAggregator(cls -> {
+                    scans.incrementAndGet();
+                    return Aggregators.ANNOTATED_CONSTRUCTORS.apply(cls);
+                })
+                .bind(String.class).toInstance("A")
+                .build();
+
+        assertEquals(1, injector.plan(Bar.class).constructor().targets().size());
+        assertEquals("A", injector.create(Bar.class).a);
+        assertEquals("A", injector.create(Bar.class).a);
+
+        assertNull(injector.plan(Baz.class).constructor());
+        assertThrows(InjectionException.class, () -> injector.create(Baz.class));
+        assertThrows(InjectionException.class, () -> injector.create(Baz.class));
+        assertEquals(2, scans.get());
+    }
+
+}
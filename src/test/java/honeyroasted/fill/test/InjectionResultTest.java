@@ -0,0 +1,29 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.bindings.Binding;
+import honeyroasted.fill.bindings.Matchers;
+import honeyroasted.jype.system.JTypeSystem;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InjectionResultTest {
+
+    public String field;
+
+    @Test
+    public void testSharedResults() throws NoSuchFieldException {
+        assertSame(InjectionResult.ignore(), InjectionResult.ignore());
+        assertSame(InjectionResult.ignore(), InjectionResult.of(null));
+
+        InjectionTarget target = InjectionTarget.of(JTypeSystem.RUNTIME_REFLECTION, InjectionResultTest.class.getField("field"));
+        Binding binding = Matchers.type(String.class).toInstance("A");
+        InjectionResult result = binding.handle(JTypeSystem.RUNTIME_REFLECTION, target);
+        assertEquals(InjectionResult.Type.SET, result.type());
+        assertEquals("A", result.value());
+        assertSame(result, binding.handle(JTypeSystem.RUNTIME_REFLECTION, target));
+    }
+
+}
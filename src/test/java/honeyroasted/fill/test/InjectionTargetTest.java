@@ -0,0 +1,59 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import honeyroasted.jype.system.JTypeSystem;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InjectionTargetTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    private @interface Bar {
+
+    }
+
+    private static class Foo {
+        @Bar
+        @Inject("named")
+        public String a;
+        public String b;
+    }
+
+    @Test
+    public void testAnnotationLookup() throws ReflectiveOperationException {
+        InjectionTarget a = new InjectionTarget(JTypeSystem.RUNTIME_REFLECTION, Foo.class.getField("a"));
+        InjectionTarget b = new InjectionTarget(JTypeSystem.RUNTIME_REFLECTION, Foo.class.getField("b"));
+
+        assertTrue(a.has(Bar.class));
+        assertTrue(a.has(Inject.class));
+        assertTrue(a.has(Annotation.class));
+        assertEquals("named", a.get(Inject.class).value());
+        assertEquals("named", a.injectName());
+        assertEquals(List.of(Bar.class, Inject.class), a.annotationTypes());
+
+        assertFalse(b.has(Inject.class));
+        assertNull(b.get(Bar.class));
+        assertNull(b.injectName());
+    }
+
+    @Test
+    public void testTargetsInterned() throws ReflectiveOperationException {
+        InjectionTarget first = InjectionTarget.of(JTypeSystem.RUNTIME_REFLECTION, Foo.class.getField("a"));
+        InjectionTarget second = InjectionTarget.of(JTypeSystem.RUNTIME_REFLECTION, Foo.class.getField("a"));
+
+        assertSame(first, second);
+        assertNotSame(first, InjectionTarget.of(JTypeSystem.RUNTIME_REFLECTION, Foo.class.getField("b")));
+        assertTrue(first.interned());
+        assertFalse(new InjectionTarget(JTypeSystem.RUNTIME_REFLECTION, Foo.class.getField("a")).interned());
+        assertSame(first, ReflectionInjector.builder().bind(String.class).toInstance("A").build().plan(Foo.class).instanceFields().get(0).target());
+    }
+
+}
@@ -0,0 +1,91 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.Injector;
+import honeyroasted.fill.Lazy;
+import honeyroasted.fill.Provider;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyInjectionTest {
+
+    public interface Service {
+        String name();
+    }
+
+    private static class Foo {
+        @Inject
+        public Supplier<String> supplier;
+        @Inject
+        public Provider<? extends CharSequence> provider;
+        @Inject
+        @Lazy
+        public Service service;
+        @Inject
+        public Supplier<Integer> unclaimed;
+
+        @Inject
+        public Foo() {}
+    }
+
+    @Test
+    public void testLazyResolution() {
+        AtomicInteger strings = new AtomicInteger();
+        AtomicInteger services = new AtomicInteger();
+        Injector<?, ?> injector = ReflectionInjector.builder()
+                .bind(String.class).toProvider(() -> "A" + strings.incrementAndGet())
+                .bind(Service.class).toProvider(() -> {
+                    services.incrementAndGet();
+                    return (Service) () -> "Service";
+                })
+                .build();
+
+        Foo foo = injector.createAndInject(Foo.class);
+        assertEquals(0, strings.get());
+        assertEquals(0, services.get());
+        assertNull(foo.unclaimed);
+
+        assertEquals("A1", foo.supplier.get());
+        assertEquals("A1", foo.supplier.get());
+        assertEquals("A2", foo.provider.get());
+        assertEquals(2, strings.get());
+
+        assertEquals("Service", foo.service.name());
+        assertEquals("Service", foo.service.name());
+        assertEquals(1, services.get());
+    }
+
+    @Test
+    public void testNullResolvedOnce() {
+        AtomicInteger strings = new AtomicInteger();
+        Foo foo = ReflectionInjector.builder()
+                .bind(String.class).toProvider(() -> {
+                    strings.incrementAndGet();
+                    return null;
+                })
+                .build()
+                .createAndInject(Foo.class);
+
+        assertNull(foo.supplier.get());
+        assertNull(foo.supplier.get());
+        assertEquals(1, strings.get());
+    }
+
+    @Test
+    public void testBoundSupplierPreferred() {
+        Supplier<String> bound = () -> "Bound";
+        Foo foo = ReflectionInjector.builder()
+                .bind(Supplier.class).toInstance(bound)
+                .bind(String.class).toInstance("A")
+                .build()
+                .createAndInject(Foo.class);
+
+        assertSame(bound, foo.supplier);
+    }
+
+}
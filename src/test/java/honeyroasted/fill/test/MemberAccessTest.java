@@ -0,0 +1,149 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.Injector;
+import honeyroasted.fill.reflect.GeneratedAccessor;
+import honeyroasted.fill.reflect.MemberAccess;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MemberAccessTest {
+
+    private static class Foo {
+        @Inject
+        private static String staticValue;
+
+        @Inject
+        private String field;
+        private int primitive;
+        private String constructed;
+
+        @Inject
+        public Foo(String constructed) {
+            this.constructed = constructed;
+        }
+
+        @Inject
+        void setPrimitive(int primitive) {
+            this.primitive = primitive;
+        }
+    }
+
+    private void assertInjected(Injector<?, ?> injector) {
+        Foo foo = injector.createAndInject(Foo.class);
+        injector.injectStatic(Foo.class);
+
+        assertEquals("ABC", foo.constructed);
+        assertEquals("ABC", foo.field);
+        assertEquals(5, foo.primitive);
+        assertEquals("ABC", Foo.staticValue);
+    }
+
+    @Test
+    public void testDefaultAccess() {
+        assertInjected(ReflectionInjector.builder()
+                .bind(String.class).toInstance("ABC")
+                .bind(int.class).toInstance(5)
+                .build());
+    }
+
+    @Test
+    public void testLookupAccess() {
+        assertInjected(ReflectionInjector.builder()
+                .lookup(MethodHandles.lookup())
+                .bind(String.class).toInstance("ABC")
+                .bind(int.class).toInstance(5)
+                .build());
+    }
+
+    @Test
+    public void testToBuilderKeepsAccess() {
+        AtomicInteger accessed = new AtomicInteger();
+        MemberAccess reflection = MemberAccess.reflection();
+        MemberAccess counting = new MemberAccess() {
+            @Override
+            public FieldAccessor field(Field field) throws ReflectiveOperationException {
+                accessed.incrementAndGet();
+                return reflection.field(field);
+            }
+
+            @Override
+            public Invoker method(Method method) throws ReflectiveOperationException {
+                accessed.incrementAndGet();
+                return reflection.method(method);
+            }
+
+            @Override
+            public Invoker constructor(Constructor<?> constructor) throws ReflectiveOperationException {
+                accessed.incrementAndGet();
+                return reflection.constructor(constructor);
+            }
+        };
+
+        ReflectionInjector injector = ReflectionInjector.builder()
+                .memberAccess(counting)
+                .bind(String.class).toInstance("ABC")
+                .bind(int.class).toInstance(5)
+                .build()
+                .toBuilder()
+                .build();
+        assertInjected(injector);
+        assertTrue(accessed.get() > 0);
+    }
+
+    @Test
+    public void testAccessibleFallback() {
+        //Without private access, no private lookup can be obtained, so members are made accessible instead
+        assertInjected(ReflectionInjector.builder()
+                .lookup(MethodHandles.lookup().dropLookupMode(MethodHandles.Lookup.PRIVATE))
+                .bind(String.class).toInstance("ABC")
+                .bind(int.class).toInstance(5)
+                .build());
+    }
+
+    @Test
+    public void testGeneratedAccess() {
+        assertInjected(ReflectionInjector.builder()
+                .memberAccess(MemberAccess.generated(MethodHandles.lookup()))
+                .bind(String.class).toInstance("ABC")
+                .bind(int.class).toInstance(5)
+                .build());
+    }
+
+    @Test
+    public void testReflectionAccess() {
+        assertInjected(ReflectionInjector.builder()
+                .memberAccess(MemberAccess.reflection())
+                .bind(String.class).toInstance("ABC")
+                .bind(int.class).toInstance(5)
+                .build());
+    }
+
+    @Test
+    public void testPrimitiveConversions() throws Throwable {
+        for (MemberAccess access : new MemberAccess[]{MemberAccess.reflection(), MemberAccess.handles(MethodHandles.lookup()), MemberAccess.generated(MethodHandles.lookup())}) {
+            MemberAccess.FieldAccessor accessor = access.field(Foo.class.getDeclaredField("primitive"));
+            Foo foo = new Foo("ABC");
+
+            accessor.set(foo, (short) 3);
+            assertEquals(3, foo.primitive);
+            assertThrows(RuntimeException.class, () -> accessor.set(foo, 5L));
+            assertThrows(RuntimeException.class, () -> accessor.set(foo, 5.0));
+            assertEquals(3, foo.primitive);
+        }
+
+        assertEquals(3L, GeneratedAccessor.unboxLong('\u0003'));
+        assertEquals(3.0, GeneratedAccessor.unboxDouble(3), 0);
+        assertThrows(IllegalArgumentException.class, () -> GeneratedAccessor.unboxInt(5L));
+        assertThrows(IllegalArgumentException.class, () -> GeneratedAccessor.unboxInt(null));
+    }
+
+}
@@ -0,0 +1,143 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.Injector;
+import honeyroasted.fill.reflect.Aggregators;
+import honeyroasted.fill.reflect.MemberIndex;
+import honeyroasted.fill.reflect.MemberIndexFile;
+import honeyroasted.fill.reflect.MemberIndexes;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MemberIndexFileTest {
+
+    private static class Base {
+        @Inject
+        protected String inherited;
+
+        @Inject
+        void setInherited(String inherited) {
+            this.inherited = inherited;
+        }
+    }
+
+    public static class Foo extends Base {
+        @Inject
+        public static String staticValue;
+
+        @Inject
+        public String a;
+        public int[] b;
+
+        @Inject
+        public Foo() {}
+
+        @Inject
+        public Foo(String a, int[] b) {
+            this.b = b;
+        }
+    }
+
+    private static class Unindexed {
+        public String a;
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Path file = Files.createTempFile("fill", ".idx");
+        try {
+            MemberIndexFile.write(file, List.of(Foo.class, Unindexed.class));
+            List<MemberIndex> read = MemberIndexFile.read(file);
+            assertEquals(1, read.size());
+            assertEquals(Foo.class.getName(), read.get(0).type());
+
+            MemberIndexes indexes = new MemberIndexes(read);
+            assertTrue(indexes.indexes(Foo.class));
+            assertFalse(indexes.indexes(Unindexed.class));
+            assertEquals(new HashSet<>(Aggregators.ANNOTATED_FIELDS.apply(Foo.class)), new HashSet<>(indexes.fields(cls -> null).apply(Foo.class)));
+            assertEquals(new HashSet<>(Aggregators.ANNOTATED_METHODS.apply(Foo.class)), new HashSet<>(indexes.methods(cls -> null).apply(Foo.class)));
+            assertEquals(new HashSet<>(Aggregators.ANNOTATED_CONSTRUCTORS.apply(Foo.class)), new HashSet<>(indexes.constructors(cls -> null).apply(Foo.class)));
+
+            Injector<?, ?> injector = ReflectionInjector.builder()
+                    .memberIndexes(indexes)
+                    .bind(String.class).toInstance("ABC")
+                    .build();
+            Foo foo = injector.createAndInject(Foo.class);
+            assertEquals("ABC", foo.a);
+            assertEquals("ABC", foo.inherited);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testChangedClass() throws IOException {
+        Path file = Files.createTempFile("fill", ".idx");
+        try {
+            MemberIndexFile.write(file, List.of(Foo.class));
+            assertTrue(new MemberIndexes(MemberIndexFile.read(file)).indexes(Foo.class));
+
+            //Changing the recorded fingerprint of the only class makes its index stale
+            byte[] bytes = Files.readAllBytes(file);
+            int fingerprint = 18 + ByteBuffer.wrap(bytes).getInt(6) * 4 + 8;
+            bytes[fingerprint + 7] ^= 1;
+            Files.write(file, bytes);
+
+            MemberIndexes indexes = new MemberIndexes(MemberIndexFile.read(file));
+            assertFalse(indexes.indexes(Foo.class));
+            assertEquals(new HashSet<>(Aggregators.ANNOTATED_FIELDS.apply(Foo.class)), new HashSet<>(indexes.fields(Aggregators.ANNOTATED_FIELDS).apply(Foo.class)));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testJarFingerprint() throws IOException, ClassNotFoundException {
+        //The checksum of a class in a jar is read from its central directory, and must match that of the class file
+        String name = Unindexed.class.getName();
+        Path jar = Files.createTempFile("fill", ".jar");
+        try {
+            try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+                 InputStream in = Unindexed.class.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+                out.putNextEntry(new JarEntry(name.replace('.', '/') + ".class"));
+                in.transferTo(out);
+                out.closeEntry();
+            }
+
+            try (URLClassLoader loader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, null)) {
+                Class<?> loaded = Class.forName(name, false, loader);
+                assertNotSame(Unindexed.class, loaded);
+                assertNotEquals(0, MemberIndexFile.fingerprint(loaded));
+                assertEquals(MemberIndexFile.fingerprint(Unindexed.class), MemberIndexFile.fingerprint(loaded));
+            }
+        } finally {
+            Files.deleteIfExists(jar);
+        }
+    }
+
+    @Test
+    public void testInvalidFile() throws IOException {
+        Path file = Files.createTempFile("fill", ".idx");
+        try {
+            Files.write(file, new byte[]{1, 2, 3, 4});
+            assertThrows(IOException.class, () -> MemberIndexFile.read(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.InjectionAnnotation;
+import honeyroasted.fill.Injector;
+import honeyroasted.fill.reflect.Aggregators;
+import honeyroasted.fill.reflect.MemberIndexes;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MemberIndexTest {
+
+    @InjectionAnnotation
+    @Retention(RetentionPolicy.RUNTIME)
+    private @interface Bar {
+
+    }
+
+    private static class Base {
+        @Inject
+        protected String inherited;
+
+        @Inject
+        void setInherited(String inherited) {
+            this.inherited = inherited;
+        }
+    }
+
+    private static class Foo extends Base {
+        @Inject
+        public static String staticValue;
+
+        @Bar
+        public String a;
+        public String b;
+
+        public Foo() {}
+
+        public Foo(@Bar String b) {
+            this.b = b;
+        }
+
+        public void setB(@Bar String b) {
+            this.b = b;
+        }
+    }
+
+    private static class Unindexed {
+        public String a;
+    }
+
+    @Test
+    public void testIndexMatchesScanning() {
+        MemberIndexes indexes = MemberIndexes.load(MemberIndexTest.class.getClassLoader());
+
+        assertTrue(indexes.indexes(Foo.class));
+        assertEquals(new HashSet<>(Aggregators.ANNOTATED_FIELDS.apply(Foo.class)), new HashSet<>(indexes.fields(cls -> null).apply(Foo.class)));
+        assertEquals(new HashSet<>(Aggregators.ANNOTATED_METHODS.apply(Foo.class)), new HashSet<>(indexes.methods(cls -> null).apply(Foo.class)));
+        assertEquals(new HashSet<>(Aggregators.ANNOTATED_CONSTRUCTORS.apply(Foo.class)), new HashSet<>(indexes.constructors(cls -> null).apply(Foo.class)));
+    }
+
+    @Test
+    public void testFallback() {
+        MemberIndexes indexes = MemberIndexes.load(MemberIndexTest.class.getClassLoader());
+
+        assertFalse(indexes.indexes(Unindexed.class));
+        assertEquals(Aggregators.ANNOTATED_FIELDS.apply(Unindexed.class), indexes.fields(Aggregators.ANNOTATED_FIELDS).apply(Unindexed.class));
+    }
+
+    @Test
+    public void testIndexedInjection() {
+        Injector<?, ?> injector = ReflectionInjector.builder()
+                .memberIndexes(MemberIndexes.load(MemberIndexTest.class.getClassLoader()))
+                .bind(String.class).toInstance("ABC")
+                .build();
+
+        Foo foo = injector.createAndInject(Foo.class);
+        assertEquals("ABC", foo.a);
+        assertEquals("ABC", foo.b);
+        assertEquals("ABC", foo.inherited);
+    }
+
+}
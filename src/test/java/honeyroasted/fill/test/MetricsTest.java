@@ -0,0 +1,131 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.InjectionException;
+import honeyroasted.fill.InjectionResult;
+import honeyroasted.fill.bindings.Binding;
+import honeyroasted.fill.bindings.Matchers;
+import honeyroasted.fill.bindings.SequenceBinding;
+import honeyroasted.fill.metrics.InjectionMetrics;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsTest {
+
+    private static class Foo {
+        @Inject
+        public String a;
+        @Inject
+        public Integer b;
+    }
+
+    private static class Bar {
+        @Inject
+        public Long c;
+    }
+
+    @Test
+    public void testCounts() {
+        InjectionMetrics metrics = new InjectionMetrics();
+        Binding string = Matchers.type(String.class).toInstance("a");
+        Binding integer = Matchers.type(Integer.class).to((target, system) -> InjectionResult.ignore());
+        ReflectionInjector injector = ReflectionInjector.builder()
+                .bind(string, integer)
+                .metrics(metrics)
+                .build();
+
+        injector.inject(new Foo());
+        injector.inject(new Foo());
+
+        InjectionMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(2, snapshot.of(string).handles());
+        assertEquals(2, snapshot.of(string).set());
+        assertEquals(2, snapshot.of(string).latency().count());
+        assertEquals(2, snapshot.of(integer).ignore());
+        assertEquals(0, snapshot.of(integer).set());
+
+        assertEquals(2, snapshot.of(String.class).set());
+        assertEquals(2, snapshot.of(Integer.class).ignore());
+    }
+
+    @Test
+    public void testUnclaimedAndErrors() {
+        InjectionMetrics metrics = new InjectionMetrics();
+        Binding error = Matchers.type(String.class).to((target, system) -> InjectionResult.error("unavailable"));
+        ReflectionInjector injector = ReflectionInjector.builder()
+                .bind(error)
+                .metrics(metrics)
+                .build();
+
+        injector.inject(new Bar());
+        assertThrows(InjectionException.class, () -> injector.inject(new Foo()));
+
+        InjectionMetrics.Snapshot snapshot = metrics.snapshot();
+        assertTrue(snapshot.of(Long.class).claimChecks() > 0);
+        assertEquals(0, snapshot.of(Long.class).claims());
+        assertEquals(1, snapshot.of(error).error());
+        assertEquals(1, snapshot.of(String.class).error());
+
+        metrics.reset();
+        assertEquals(0, metrics.snapshot().of(error).handles());
+    }
+
+    @Test
+    public void testDisabled() {
+        Binding string = Matchers.type(String.class).toInstance("a");
+        ReflectionInjector injector = ReflectionInjector.builder().bind(string).build();
+        assertNull(injector.metrics());
+        assertSame(string, ((SequenceBinding) injector.binding()).bindings().get(0));
+    }
+
+    @Test
+    public void testLatency() {
+        InjectionMetrics.Latency latency = new InjectionMetrics.Latency(new long[]{0, 1, 0, 2}, 3, 13);
+        assertEquals(1, latency.percentile(10));
+        assertEquals(7, latency.percentile(100));
+        assertEquals(13 / 3.0, latency.mean(), 1e-9);
+    }
+
+    @Test
+    public void testLatencyCopied() {
+        InjectionMetrics.Counts.EMPTY.latency().buckets()[0] = 5;
+        assertEquals(0, InjectionMetrics.Counts.EMPTY.latency().buckets()[0]);
+        assertEquals(0, InjectionMetrics.Counts.EMPTY.latency().percentile(100));
+    }
+
+    @Test
+    public void testMeteredTwice() {
+        InjectionMetrics metrics = new InjectionMetrics();
+        Binding string = Matchers.type(String.class).toInstance("a");
+        ReflectionInjector first = ReflectionInjector.builder().bind(string).metrics(metrics).build();
+        ReflectionInjector second = ReflectionInjector.builder().bind(string).metrics(metrics).build();
+
+        first.inject(new Foo());
+        second.inject(new Foo());
+        second.inject(new Foo());
+
+        InjectionMetrics.Counts counts = metrics.snapshot().of(string);
+        assertEquals(3, counts.set());
+        assertEquals(3, counts.latency().count());
+        assertEquals(1, metrics.snapshot().bindings().size());
+    }
+
+    @Test
+    public void testToBuilder() {
+        InjectionMetrics metrics = new InjectionMetrics();
+        Binding string = Matchers.type(String.class).toInstance("a");
+        ReflectionInjector injector = ReflectionInjector.builder()
+                .bind(string)
+                .metrics(metrics)
+                .build()
+                .toBuilder()
+                .build();
+
+        assertSame(metrics, injector.metrics());
+        injector.inject(new Foo());
+        assertEquals(1, metrics.snapshot().of(string).set());
+    }
+
+}
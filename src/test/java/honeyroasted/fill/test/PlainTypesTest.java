@@ -0,0 +1,62 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.PlainTypes;
+import honeyroasted.jype.system.JTypeSystem;
+import honeyroasted.jype.system.solver.constraints.JTypeConstraints;
+import honeyroasted.jype.type.JType;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlainTypesTest {
+    private static final Class<?>[] TYPES = {
+            boolean.class, byte.class, short.class, char.class, int.class, long.class, float.class, double.class,
+            Boolean.class, Byte.class, Short.class, Character.class, Integer.class, Long.class, Float.class, Double.class,
+            Object.class, Number.class, String.class, CharSequence.class, Serializable.class, Cloneable.class,
+            int[].class, long[].class, Object[].class, String[].class, CharSequence[].class, Integer[][].class
+    };
+
+    private static class Foo<T> {
+        @Inject
+        public String plain;
+        @Inject
+        public List<String> generic;
+        @Inject
+        public T variable;
+        @Inject
+        public Inner inner;
+
+        class Inner {}
+    }
+
+    @Test
+    public void testCompatibilityMatchesSolver() {
+        JTypeSystem system = JTypeSystem.RUNTIME_REFLECTION;
+        for (Class<?> type : TYPES) {
+            JType resolvedType = system.tryResolve(type);
+            for (Class<?> target : TYPES) {
+                JType resolvedTarget = system.tryResolve(target);
+
+                assertEquals(system.operations().isCompatible(resolvedType, resolvedTarget, JTypeConstraints.Compatible.Context.LOOSE_INVOCATION),
+                        PlainTypes.isCompatible(type, target), type.getName() + " -> " + target.getName());
+                assertEquals(resolvedTarget.typeEquals(resolvedType), type == target, type.getName() + " == " + target.getName());
+            }
+        }
+    }
+
+    @Test
+    public void testPlainTargets() throws ReflectiveOperationException {
+        JTypeSystem system = JTypeSystem.RUNTIME_REFLECTION;
+
+        assertEquals(String.class, new InjectionTarget(system, Foo.class.getField("plain")).plainType());
+        assertNull(new InjectionTarget(system, Foo.class.getField("generic")).plainType());
+        assertNull(new InjectionTarget(system, Foo.class.getField("variable")).plainType());
+        assertNull(new InjectionTarget(system, Foo.class.getField("inner")).plainType());
+    }
+
+}
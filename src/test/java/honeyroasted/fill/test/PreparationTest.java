@@ -0,0 +1,89 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.InjectionException;
+import honeyroasted.fill.reflect.PreparationReport;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PreparationTest {
+
+    public static class Satisfied {
+        @Inject
+        public String a;
+
+        @Inject
+        public Satisfied(String a) {}
+
+        @Inject
+        public void set(String b) {}
+    }
+
+    public static class Unsatisfied {
+        @Inject
+        public Unsatisfied(Integer a) {}
+
+        @Inject
+        public void set(String b, Long c) {}
+    }
+
+    public static class Alternative {
+        @Inject
+        public Alternative(String a) {}
+
+        @Inject
+        public Alternative(String a, Integer b) {}
+    }
+
+    private ReflectionInjector injector() {
+        return ReflectionInjector.builder()
+                .bind(String.class).toInstance("a")
+                .build();
+    }
+
+    @Test
+    public void testValid() {
+        ReflectionInjector injector = injector();
+        PreparationReport report = injector.prepare(Satisfied.class, Alternative.class);
+        assertTrue(report.valid());
+        assertEquals(2, report.plans().size());
+        assertSame(report.plans().get(0), injector.plan(Satisfied.class));
+    }
+
+    @Test
+    public void testProblems() {
+        PreparationReport report = injector().prepare(Unsatisfied.class);
+        assertFalse(report.valid());
+        assertEquals(2, report.problems().size());
+        assertTrue(report.problems().stream().allMatch(p -> p.type() == Unsatisfied.class && p.unclaimed().size() == 1));
+        assertThrows(InjectionException.class, report::throwIfInvalid);
+    }
+
+    @Test
+    public void testParallel() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            PreparationReport report = injector().prepare(List.of(Satisfied.class, Unsatisfied.class, Alternative.class), executor)
+                    .get(10, TimeUnit.SECONDS);
+            assertEquals(3, report.plans().size());
+            assertEquals(Satisfied.class, report.plans().get(0).type());
+            assertEquals(2, report.problems().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBuilder() {
+        assertNotNull(ReflectionInjector.builder().bind(String.class).toInstance("a").prepare(Satisfied.class).build());
+        assertThrows(InjectionException.class, () -> ReflectionInjector.builder().bind(String.class).toInstance("a").prepare(Unsatisfied.class).build());
+    }
+
+}
@@ -0,0 +1,118 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.bindings.Binding;
+import honeyroasted.fill.bindings.Matchers;
+import honeyroasted.fill.metrics.InjectionMetrics;
+import honeyroasted.fill.reflect.InjectionPlan;
+import honeyroasted.fill.reflect.MemberAccess;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveBindingTest {
+
+    public static class Foo {
+        @Inject
+        public int a;
+        @Inject
+        public long b;
+        @Inject
+        public double c;
+        @Inject
+        public long widened;
+
+        public int param;
+
+        @Inject
+        public void setParam(int param) {
+            this.param = param;
+        }
+    }
+
+    private static ReflectionInjector injector(AtomicLong counter) {
+        return ReflectionInjector.builder()
+                .bind(Matchers.name("widened").toIntInstance(7))
+                .bind(Matchers.exactType(int.class).toIntInstance(3))
+                .bind(Matchers.exactType(long.class).toLongProvider(counter::incrementAndGet))
+                .bind(Matchers.exactType(double.class).toDoubleInstance(1.5))
+                .build();
+    }
+
+    @Test
+    public void testPrimitiveInjection() {
+        AtomicLong counter = new AtomicLong();
+        ReflectionInjector injector = injector(counter);
+
+        Foo foo = injector.createAndInject(Foo.class);
+        assertEquals(3, foo.a);
+        assertEquals(1, foo.b);
+        assertEquals(1.5, foo.c, 0);
+        assertEquals(7, foo.widened);
+        assertEquals(3, foo.param);
+
+        for (InjectionPlan.FieldEntry entry : injector.plan(Foo.class).instanceFields()) {
+            assertNotNull(entry.primitive(), entry.field().getName());
+        }
+    }
+
+    @Test
+    public void testNonDefaultValuesKept() {
+        ReflectionInjector injector = injector(new AtomicLong());
+
+        Foo foo = new Foo();
+        foo.a = 5;
+        foo.c = -0.0;
+        injector.inject(foo);
+        assertEquals(5, foo.a);
+        assertEquals(-0.0, foo.c, 0);
+        assertEquals(1, foo.b);
+    }
+
+    @Test
+    public void testMeteredNotBypassed() {
+        InjectionMetrics metrics = new InjectionMetrics();
+        Binding ints = Matchers.exactType(int.class).toIntInstance(3);
+        ReflectionInjector injector = ReflectionInjector.builder()
+                .bind(ints)
+                .bind(Matchers.type(long.class).toLongInstance(4))
+                .bind(Matchers.exactType(double.class).toDoubleInstance(2))
+                .indexed(true)
+                .metrics(metrics)
+                .build();
+
+        Foo foo = injector.createAndInject(Foo.class);
+        assertEquals(3, foo.a);
+        assertEquals(4, foo.b);
+
+        //Metered bindings are handled through their wrapper, so the fields are not written without boxing
+        for (InjectionPlan.FieldEntry entry : injector.plan(Foo.class).instanceFields()) {
+            assertNull(entry.primitive(), entry.field().getName());
+        }
+        assertEquals(2, metrics.snapshot().of(ints).set());
+    }
+
+    @Test
+    public void testBoxedFallbacks() {
+        ReflectionInjector injector = ReflectionInjector.builder()
+                .memberAccess(MemberAccess.reflection())
+                .dummyObjectMatcher((target, obj) -> ((Number) obj).intValue() != 5)
+                .bind(Matchers.exactType(int.class).toIntInstance(3))
+                .bind(Matchers.exactType(long.class).toLongInstance(4))
+                .bind(Matchers.exactType(double.class).toDoubleInstance(2))
+                .build();
+
+        Foo foo = new Foo();
+        foo.a = 5;
+        foo.b = 5;
+        injector.inject(foo);
+        assertEquals(5, foo.a);
+        assertEquals(5, foo.b);
+        assertEquals(2, foo.c, 0);
+        assertEquals(4, foo.widened);
+    }
+
+}
@@ -0,0 +1,96 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.Injector;
+import honeyroasted.fill.bindings.Scope;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScopeTest {
+
+    public static class Counter {
+        public final int id;
+
+        public Counter(int id) {
+            this.id = id;
+        }
+    }
+
+    private static class Foo {
+        @Inject
+        public Counter first;
+        @Inject
+        public Counter second;
+
+        @Inject
+        public Foo() {}
+    }
+
+    private Injector<?, ?> injector(Scope scope) {
+        AtomicInteger count = new AtomicInteger();
+        return ReflectionInjector.builder()
+                .bind(Counter.class).in(scope).toProvider(() -> new Counter(count.incrementAndGet()))
+                .build();
+    }
+
+    @Test
+    public void testUnscoped() {
+        Foo foo = injector(Scope.UNSCOPED).createAndInject(Foo.class);
+        assertNotSame(foo.first, foo.second);
+    }
+
+    @Test
+    public void testSingleton() throws InterruptedException {
+        Injector<?, ?> injector = injector(Scope.SINGLETON);
+
+        List<Foo> foos = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Foo foo = new Foo();
+            foos.add(foo);
+            threads.add(new Thread(() -> injector.inject(foo)));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (Foo foo : foos) {
+            assertEquals(1, foo.first.id);
+            assertSame(foos.get(0).first, foo.second);
+        }
+    }
+
+    @Test
+    public void testThread() throws InterruptedException {
+        Injector<?, ?> injector = injector(Scope.THREAD);
+        Foo mine = injector.createAndInject(Foo.class);
+        Foo other = new Foo();
+        Thread thread = new Thread(() -> injector.inject(other));
+        thread.start();
+        thread.join();
+
+        assertSame(mine.first, mine.second);
+        assertSame(other.first, other.second);
+        assertNotSame(mine.first, other.first);
+        assertSame(mine.first, injector.createAndInject(Foo.class).first);
+    }
+
+    @Test
+    public void testSession() {
+        Injector<?, ?> injector = injector(Scope.SESSION);
+        Foo first = injector.createAndInject(Foo.class);
+        Foo second = injector.createAndInject(Foo.class);
+
+        assertSame(first.first, first.second);
+        assertSame(second.first, second.second);
+        assertNotSame(first.first, second.first);
+    }
+
+}
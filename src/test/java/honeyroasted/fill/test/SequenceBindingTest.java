@@ -0,0 +1,97 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.Inject;
+import honeyroasted.fill.Injector;
+import honeyroasted.fill.bindings.Matcher;
+import honeyroasted.fill.reflect.ReflectionInjector;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SequenceBindingTest {
+
+    private static class Foo {
+        @Inject
+        public String a;
+        @Inject
+        public Integer b;
+
+        @Inject
+        public Foo() {}
+    }
+
+    private static class Lazy {
+        @Inject
+        public Supplier<String> a;
+        @Inject
+        public Foo foo;
+
+        @Inject
+        public Lazy() {}
+    }
+
+    @Test
+    public void testClaimsMemoized() {
+        AtomicInteger claims = new AtomicInteger();
+        Matcher counting = (target, system) -> {
+            claims.incrementAndGet();
+            return target.rawType() == String.class;
+        };
+
+        Injector<?, ?> injector = ReflectionInjector.builder()
+                .bind(counting).toInstance("A")
+                .build();
+
+        Foo first = injector.createAndInject(Foo.class);
+        int afterFirst = claims.get();
+        Foo second = injector.createAndInject(Foo.class);
+
+        assertEquals("A", first.a);
+        assertEquals("A", second.a);
+        assertNull(second.b);
+        assertEquals(2, afterFirst);
+        assertEquals(afterFirst, claims.get());
+    }
+
+    @Test
+    public void testIgnoredFallsThrough() {
+        Injector<?, ?> injector = ReflectionInjector.builder()
+                .bind(String.class).toProvider(() -> null)
+                .bind(String.class).toInstance("B")
+                .build();
+
+        assertEquals("B", injector.createAndInject(Foo.class).a);
+        assertEquals("B", injector.createAndInject(Foo.class).a);
+    }
+
+    @Test
+    public void testDiscardedInjectorCollected() throws InterruptedException {
+        for (boolean compiled : new boolean[]{false, true}) {
+            WeakReference<Injector<?, ?>> reference = injectAndDiscard(compiled);
+            for (int i = 0; i < 50 && reference.get() != null; i++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+            assertNull(reference.get());
+        }
+    }
+
+    //Resolves lazy and graph targets, whose bindings refer back to the injector
+    private static WeakReference<Injector<?, ?>> injectAndDiscard(boolean compiled) {
+        Injector<?, ?> injector = ReflectionInjector.builder()
+                .graph(true)
+                .compiled(compiled)
+                .bind(String.class).toInstance("A")
+                .bind(Integer.class).toInstance(1)
+                .build();
+        Lazy lazy = injector.createAndInject(Lazy.class);
+        assertEquals("A", lazy.a.get());
+        assertEquals("A", lazy.foo.a);
+        return new WeakReference<>(injector);
+    }
+
+}
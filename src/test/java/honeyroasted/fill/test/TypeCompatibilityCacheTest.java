@@ -0,0 +1,65 @@
+package honeyroasted.fill.test;
+
+import honeyroasted.fill.InjectionTarget;
+import honeyroasted.fill.bindings.TypeCompatibilityCache;
+import honeyroasted.fill.bindings.TypeMatcher;
+import honeyroasted.jype.system.JTypeSystem;
+import honeyroasted.jype.type.JType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TypeCompatibilityCacheTest {
+
+    private static class Foo {
+        public CharSequence a;
+    }
+
+    @Test
+    public void testCachedResults() {
+        JTypeSystem system = JTypeSystem.RUNTIME_REFLECTION;
+        JType string = system.tryResolve(String.class);
+        JType object = system.tryResolve(Object.class);
+        TypeCompatibilityCache cache = new TypeCompatibilityCache(16);
+
+        assertTrue(cache.isCompatible(system, string, object));
+        assertFalse(cache.isCompatible(system, object, string));
+        assertTrue(cache.isCompatible(system, string, object));
+        assertFalse(cache.isCompatible(system, object, string));
+
+        TypeCompatibilityCache.Stats stats = cache.stats();
+        assertEquals(2, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(2, stats.size());
+    }
+
+    @Test
+    public void testMatcherCache() throws NoSuchFieldException {
+        JTypeSystem system = JTypeSystem.RUNTIME_REFLECTION;
+        InjectionTarget target = InjectionTarget.of(system, Foo.class.getField("a"));
+        TypeCompatibilityCache cache = new TypeCompatibilityCache(16);
+
+        TypeMatcher matcher = new TypeMatcher(system.tryResolve(String.class), false);
+        TypeMatcher own = matcher.withCache(cache);
+        assertNotSame(matcher.cache(), new TypeMatcher(system.tryResolve(String.class), false).cache());
+        assertSame(cache, own.cache());
+
+        assertTrue(own.test(target, system));
+        assertTrue(own.test(target, system));
+        assertEquals(1, cache.stats().misses());
+        assertEquals(1, cache.stats().hits());
+    }
+
+    @Test
+    public void testBounded() {
+        JTypeSystem system = JTypeSystem.RUNTIME_REFLECTION;
+        JType object = system.tryResolve(Object.class);
+        TypeCompatibilityCache cache = new TypeCompatibilityCache(2);
+
+        for (Class<?> type : new Class<?>[]{String.class, Integer.class, Long.class, Double.class}) {
+            assertTrue(cache.isCompatible(system, system.tryResolve(type), object));
+            assertTrue(cache.stats().size() <= 2);
+        }
+    }
+
+}